@@ -1,13 +1,17 @@
 plugins {
 	java
 	id("org.springframework.boot") version "3.4.2"
+	id("org.springframework.boot.aot") version "3.4.2"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 	jacoco
 }
 
 group = "com.travel"
 version = "0.0.1-SNAPSHOT"
 var openapiVersion = "2.7.0"
+var datasourceMicrometerVersion = "1.0.6"
+var protobufVersion = "4.29.3"
 
 java {
 	toolchain {
@@ -22,18 +26,40 @@ repositories {
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-webflux")
 	implementation("org.springframework.boot:spring-boot-starter-data-rest")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("jakarta.persistence:jakarta.persistence-api")
 	implementation("org.postgresql:postgresql")
+	implementation("org.springframework:spring-r2dbc")
+	implementation("io.r2dbc:r2dbc-pool")
+	runtimeOnly("org.postgresql:r2dbc-postgresql")
 	implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-csv")
+	implementation("com.google.protobuf:protobuf-java:$protobufVersion")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:$openapiVersion")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-api:$openapiVersion")
 	implementation("org.springframework.boot:spring-boot-starter-tomcat")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("io.micrometer:micrometer-registry-prometheus")
+	implementation("io.micrometer:micrometer-tracing-bridge-brave")
+	implementation("io.zipkin.reporter2:zipkin-reporter-brave")
+	implementation("net.ttddyy.observation:datasource-micrometer-spring-boot:$datasourceMicrometerVersion")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	implementation("org.ehcache:ehcache::jakarta")
 	compileOnly("org.projectlombok:lombok")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
+	testImplementation("com.h2database:h2")
+	testImplementation("io.r2dbc:r2dbc-h2")
+	testImplementation("io.projectreactor:reactor-test")
+	jmh("org.springframework.boot:spring-boot-starter-test")
+	jmh("com.h2database:h2")
 }
 
 tasks.withType<Test> {
@@ -41,12 +67,106 @@ tasks.withType<Test> {
 }
 
 tasks.test {
+	useJUnitPlatform {
+		excludeTags("performance")
+	}
 	finalizedBy(tasks.jacocoTestReport)
 }
+
+val performanceTest by tasks.registering(Test::class) {
+	description = "Runs the latency and throughput comparisons tagged as performance tests."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("performance")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+	shouldRunAfter(tasks.test)
+}
 tasks.jacocoTestReport {
 	dependsOn(tasks.test)
 }
 
+jmh {
+	jmhVersion = "1.37"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.aot.ProcessAot>("processAot") {
+	// Bean conditions are evaluated here, so the AOT code matches instances run with this profile.
+	args("--spring.profiles.active=fast-start")
+}
+
+val cdsDirectory = layout.buildDirectory.dir("cds")
+val cdsJava = javaToolchains.launcherFor(java.toolchain).map { it.executablePath.asFile.absolutePath }
+val bootJarName = tasks.bootJar.flatMap { it.archiveFileName }
+
+val extractBootJar by tasks.registering(Exec::class) {
+	description = "Extracts the boot jar into the layout the CDS archive is recorded against."
+	group = "build"
+	val bootJarFile = tasks.bootJar.flatMap { it.archiveFile }
+	inputs.file(bootJarFile)
+	outputs.dir(cdsDirectory)
+	doFirst {
+		delete(cdsDirectory)
+		executable = cdsJava.get()
+	}
+	argumentProviders.add(CommandLineArgumentProvider {
+		listOf("-Djarmode=tools", "-jar", bootJarFile.get().asFile.absolutePath,
+			"extract", "--destination", cdsDirectory.get().asFile.absolutePath)
+	})
+}
+
+val cdsArchive by tasks.registering(Exec::class) {
+	description = "Records a class-data-sharing archive from a training run that stops once the context is refreshed."
+	group = "build"
+	dependsOn(extractBootJar)
+	outputs.file(cdsDirectory.map { it.file("application.jsa") })
+	doFirst {
+		workingDir = cdsDirectory.get().asFile
+		executable = cdsJava.get()
+	}
+	// The training run needs no database: Hibernate is told the dialect instead of asking for it.
+	argumentProviders.add(CommandLineArgumentProvider {
+		listOf("-XX:ArchiveClassesAtExit=application.jsa",
+			"-Dspring.context.exit=onRefresh",
+			"-Dspring.aot.enabled=true",
+			"-Dspring.profiles.active=fast-start",
+			"-Dspring.jpa.hibernate.ddl-auto=none",
+			"-Dspring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+			"-Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+			"-jar", bootJarName.get())
+	})
+}
+
+val startupReport by tasks.registering(Exec::class) {
+	description = "Starts the fast-start build against the configured database and writes a startup-time report."
+	group = "verification"
+	dependsOn(cdsArchive)
+	val reportFile = layout.buildDirectory.file("reports/startup/startup.json")
+	outputs.file(reportFile)
+	outputs.upToDateWhen { false }
+	doFirst {
+		workingDir = cdsDirectory.get().asFile
+		executable = cdsJava.get()
+	}
+	argumentProviders.add(CommandLineArgumentProvider {
+		listOf("-XX:SharedArchiveFile=application.jsa",
+			"-Dspring.aot.enabled=true",
+			"-Dspring.profiles.active=fast-start",
+			"-jar", bootJarName.get(),
+			"--portal.startup.report-file=" + reportFile.get().asFile.absolutePath,
+			"--portal.startup.exit-after-report=true")
+	})
+}
+
 tasks.jacocoTestReport {
 	classDirectories.setFrom(
 		files(classDirectories.files.map {
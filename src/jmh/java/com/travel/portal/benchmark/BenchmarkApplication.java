@@ -0,0 +1,64 @@
+package com.travel.portal.benchmark;
+
+import com.travel.portal.PortalApplication;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.mapper.UserMapper;
+import com.travel.portal.model.UserModel;
+import com.travel.portal.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the portal against an in-memory H2 database in Postgres mode, standing in for the
+ * real database so end-to-end benchmarks run anywhere.
+ */
+final class BenchmarkApplication {
+    private static final String[] IN_MEMORY_PROPERTIES = {
+            "spring.datasource.url=jdbc:h2:mem:portal-benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "spring.datasource.username=sa",
+            "spring.datasource.password=",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.sql.init.mode=never",
+            "spring.jpa.show-sql=false",
+            "spring.jpa.properties.hibernate.format_sql=false",
+            "server.port=0",
+            "logging.file.name=",
+            "logging.level.root=WARN",
+            "springdoc.api-docs.enabled=false"
+    };
+
+    private BenchmarkApplication() {}
+
+    static ConfigurableApplicationContext start(String... extraProperties) {
+        return new SpringApplicationBuilder(PortalApplication.class)
+                .properties(IN_MEMORY_PROPERTIES)
+                .properties(extraProperties)
+                .run();
+    }
+
+    static void seedUsers(ConfigurableApplicationContext context, int count) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        List<UserEntity> users = new ArrayList<>(count);
+        for (UserModel userModel : users(count)) {
+            users.add(UserMapper.toNewEntity(userModel));
+        }
+        userRepository.saveAll(users);
+    }
+
+    static List<UserModel> users(int count) {
+        String[] bands = {"L1", "L2", "L3", "L4", "L5"};
+        List<UserModel> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(UserModel.builder()
+                    .userId(i)
+                    .userName("Traveller " + i)
+                    .userEmail("traveller" + i + "@example.com")
+                    .userBand(bands[i % bands.length])
+                    .build());
+        }
+        return users;
+    }
+}
@@ -0,0 +1,70 @@
+package com.travel.portal.benchmark;
+
+import com.travel.portal.exception.ErrorTemplate;
+import com.travel.portal.exception.GlobalExceptionHandler;
+import com.travel.portal.exception.exceptionDetails.ErrorResponse;
+import com.travel.portal.exception.exceptionDetails.UserNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a 404 through {@link GlobalExceptionHandler}: building the exception, and building
+ * the error response from it. {@code notFoundWithoutException} is the path deleteUser takes
+ * now, and {@code throwAndHandleWithStackTrace} rebuilds the old path, with a stack trace and
+ * a fresh timestamp and description per response, as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorPathBenchmark {
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+    private final WebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest("DELETE", "/user/deleteUser"));
+    private final UserNotFoundException prebuiltException = new UserNotFoundException(42);
+
+    @Benchmark
+    public UserNotFoundException createException() {
+        return new UserNotFoundException(42);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleException() {
+        return globalExceptionHandler.handleUserNotFoundException(prebuiltException, webRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> throwAndHandle() {
+        try {
+            throw new UserNotFoundException(42);
+        } catch (UserNotFoundException e) {
+            return globalExceptionHandler.handleUserNotFoundException(e, webRequest);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFoundWithoutException() {
+        return ErrorTemplate.USER_NOT_FOUND.toResponse(UserNotFoundException.messageFor(42), webRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> throwAndHandleWithStackTrace() {
+        try {
+            throw new IllegalStateException(UserNotFoundException.messageFor(42));
+        } catch (IllegalStateException e) {
+            ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.NOT_FOUND.value(),
+                    "User Not Found", e.getMessage(), webRequest.getDescription(false));
+            return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.travel.portal.benchmark;
+
+import com.travel.portal.limit.AdaptiveConcurrencyLimiter;
+import com.travel.portal.limit.LoadSheddingInterceptor;
+import com.travel.portal.limit.LoadSheddingProperties;
+import com.travel.portal.limit.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the load shedding checks, which should stay well under a microsecond:
+ * the token bucket for one hot client and for many clients, the adaptive concurrency
+ * acquire/release pair, and the whole interceptor round trip. The limits are set high enough
+ * that every request is admitted, which is the path taken on every normal request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoadSheddingBenchmark {
+    private static final int CLIENTS = 10_000;
+
+    private TokenBucketRateLimiter rateLimiter;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private LoadSheddingInterceptor interceptor;
+    private String[] clientKeys;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private HandlerMethod handler;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        rateLimiter = new TokenBucketRateLimiter(1e9, 1_000_000, 4096);
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.getRate().setEnabled(true);
+        properties.getRate().setRequestsPerSecond(1e9);
+        properties.getRate().setBurst(1_000_000);
+        properties.getConcurrency().setEnabled(true);
+        properties.getConcurrency().setInitialLimit(10_000);
+        properties.getConcurrency().setMaxLimit(10_000);
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(properties.getConcurrency());
+        interceptor = new LoadSheddingInterceptor(properties);
+        clientKeys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientKeys[i] = "client-" + i;
+        }
+        request = new MockHttpServletRequest("GET", "/user/getUserById");
+        request.setRemoteAddr("10.0.0.1");
+        response = new MockHttpServletResponse();
+        handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+    }
+
+    @Benchmark
+    public long rateLimitOneClient() {
+        return rateLimiter.tryAcquire("client-0");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long rateLimitOneClientContended() {
+        return rateLimiter.tryAcquire("client-0");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long rateLimitManyClients() {
+        return rateLimiter.tryAcquire(clientKeys[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean concurrencyAcquireRelease() {
+        boolean acquired = concurrencyLimiter.tryAcquire();
+        if (acquired) {
+            concurrencyLimiter.release(1_000_000);
+        }
+        return acquired;
+    }
+
+    @Benchmark
+    public boolean interceptorRoundTrip() throws Exception {
+        boolean proceed = interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+        return proceed;
+    }
+}
@@ -0,0 +1,115 @@
+package com.travel.portal.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.travel.portal.cache.UserCache;
+import com.travel.portal.cache.UserCacheProperties;
+import com.travel.portal.controller.UserController;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.logging.RequestLogSampler;
+import com.travel.portal.model.UserModel;
+import com.travel.portal.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Throughput of a cached getUserById call when every request is logged synchronously to a file,
+ * through the async appender, and through the async appender with 1-in-100 sampling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class RequestLoggingBenchmark {
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n";
+
+    @Param({"sync", "async", "async-sampled"})
+    String mode;
+
+    private UserController userController;
+    private Appender<ILoggingEvent> appender;
+    private Path logFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+        logFile = Files.createTempFile("portal-logging-benchmark", ".log");
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(loggerContext);
+        fileAppender.setFile(logFile.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+        appender = fileAppender;
+        if (!mode.equals("sync")) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+        Logger rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+        rootLogger.addAppender(appender);
+
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findById(anyInt())).thenAnswer(invocation -> {
+            int userId = invocation.getArgument(0);
+            return Optional.of(new UserEntity(userId, "Traveller " + userId, "traveller" + userId + "@example.com", "L2"));
+        });
+        UserCache userCache = new UserCache(userRepository, new UserCacheProperties());
+        RequestLogSampler requestLogSampler = new RequestLogSampler(mode.equals("async-sampled") ? 100 : 1);
+        userController = new UserController(userRepository, null, userCache, null, null, null, null, requestLogSampler);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        appender.stop();
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).reset();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public ResponseEntity<UserModel> getUserById() {
+        return userController.getUserById(ThreadLocalRandom.current().nextInt(1_000) + 1,
+                new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.travel.portal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Full request path (dispatcher, controller, repository, Hibernate, JSON) through MockMvc,
+ * against the in-memory database from {@link BenchmarkApplication}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserApiEndToEndBenchmark {
+    private static final int USERS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedUsers(context, USERS);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getUserById() throws Exception {
+        int userId = ThreadLocalRandom.current().nextInt(USERS) + 1;
+        return mockMvc.perform(get("/user/getUserById").param("userId", String.valueOf(userId))).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getAllUsers() throws Exception {
+        return mockMvc.perform(get("/user/getAllUsers")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getUsersPage() throws Exception {
+        return mockMvc.perform(get("/user/getUsersPage").param("size", "100")).andReturn();
+    }
+}
@@ -0,0 +1,81 @@
+package com.travel.portal.benchmark;
+
+import com.travel.portal.directory.UserDirectorySnapshot;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency of the off-heap directory snapshot against a heap {@code Map<Integer, UserEntity>}.
+ * Setup also prints the memory each layout needs per user: native bytes for the snapshot, and
+ * the heap growth after a full GC for the entity map, which is approximate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserDirectoryBenchmark {
+    @Param({"100000", "1000000"})
+    public int users;
+
+    private Map<Integer, UserEntity> heapUsers;
+    private UserDirectorySnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        heapUsers = new HashMap<>(users * 2);
+        for (UserModel userModel : BenchmarkApplication.users(users)) {
+            heapUsers.put(userModel.getUserId(), new UserEntity(userModel.getUserId(), userModel.getUserName(),
+                    userModel.getUserEmail(), userModel.getUserBand().intern()));
+        }
+        memory.gc();
+        long heapBytes = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+
+        UserDirectorySnapshot.Builder builder = UserDirectorySnapshot.builder();
+        heapUsers.values().forEach(builder::add);
+        snapshot = builder.build();
+        System.out.printf("%n%d users: heap map ~%d bytes/user, off-heap snapshot %d bytes/user%n",
+                users, heapBytes / users, snapshot.footprintBytes() / users);
+    }
+
+    @Benchmark
+    public String heapMapBand() {
+        return heapUsers.get(randomUserId()).getUserBand();
+    }
+
+    @Benchmark
+    public String snapshotBand() {
+        return snapshot.band(randomUserId());
+    }
+
+    @Benchmark
+    public UserEntity heapMapFind() {
+        return heapUsers.get(randomUserId());
+    }
+
+    @Benchmark
+    public UserEntity snapshotFind() {
+        return snapshot.find(randomUserId());
+    }
+
+    private int randomUserId() {
+        return ThreadLocalRandom.current().nextInt(users) + 1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.travel.portal.benchmark;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.mapper.UserMapper;
+import com.travel.portal.model.UserModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the entity/model conversion done on every read, and of the Lombok builders behind it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMappingBenchmark {
+    private final UserEntity userEntity = new UserEntity(42, "John Doe", "john.doe@example.com", "L2");
+    private final UserModel userModel = UserMapper.toModel(userEntity);
+
+    @Benchmark
+    public UserModel convertEntityToModel() {
+        return UserMapper.toModel(userEntity);
+    }
+
+    @Benchmark
+    public UserEntity convertModelToNewEntity() {
+        return UserMapper.toNewEntity(userModel);
+    }
+
+    @Benchmark
+    public UserModel userModelBuilder() {
+        return UserModel.builder()
+                .userId(42)
+                .userName("John Doe")
+                .userEmail("john.doe@example.com")
+                .userBand("L2")
+                .build();
+    }
+
+    @Benchmark
+    public UserEntity userEntityBuilder() {
+        return UserEntity.builder()
+                .userId(42)
+                .userName("John Doe")
+                .userEmail("john.doe@example.com")
+                .userBand("L2")
+                .build();
+    }
+}
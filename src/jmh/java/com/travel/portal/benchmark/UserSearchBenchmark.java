@@ -0,0 +1,83 @@
+package com.travel.portal.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.portal.model.UserModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Server-side search against the baseline of fetching every user and filtering on the client.
+ * The in-memory database has no trigram indexes, so this measures the work saved on loading,
+ * serialising and shipping rows rather than Postgres index selection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserSearchBenchmark {
+    private static final int USERS = 10_000;
+    private static final String BAND = "L2";
+    private static final String NAME_PREFIX = "traveller 1";
+    private static final TypeReference<List<UserModel>> USER_LIST = new TypeReference<>() {
+    };
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedUsers(context, USERS);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserModel> getAllUsersAndFilterOnClient() throws Exception {
+        MvcResult result = mockMvc.perform(get("/user/getAllUsers")).andReturn();
+        List<UserModel> users = objectMapper.readValue(result.getResponse().getContentAsByteArray(), USER_LIST);
+        return users.stream()
+                .filter(user -> BAND.equals(user.getUserBand()))
+                .filter(user -> user.getUserName().toLowerCase(Locale.ROOT).startsWith(NAME_PREFIX))
+                .limit(100)
+                .toList();
+    }
+
+    @Benchmark
+    public MvcResult searchUsers() throws Exception {
+        return mockMvc.perform(get("/user/searchUsers")
+                .param("band", BAND)
+                .param("namePrefix", NAME_PREFIX)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult searchUserSummaries() throws Exception {
+        return mockMvc.perform(get("/user/searchUserSummaries")
+                .param("band", BAND)
+                .param("namePrefix", NAME_PREFIX)).andReturn();
+    }
+}
@@ -0,0 +1,44 @@
+package com.travel.portal.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.portal.model.UserModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of user lists, with the same module setup Spring Boot applies
+ * (including the Kotlin module registration).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserSerializationBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private List<UserModel> users;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        users = BenchmarkApplication.users(size);
+    }
+
+    @Benchmark
+    public void serializeUserList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), users);
+    }
+}
@@ -0,0 +1,116 @@
+package com.travel.portal.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedOutputStream;
+import com.travel.portal.codec.UserEntityWriter;
+import com.travel.portal.codec.UserProtobufCodec;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.mapper.UserMapper;
+import com.travel.portal.model.UserModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a user list in each wire format the user API negotiates, with the
+ * mappers Spring Boot builds for them. Setup prints the payload size of each format.
+ * {@code encodeEntities} is the streaming path: rows written straight from {@link UserEntity}
+ * instead of being mapped to {@link UserModel} and serialized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserWireFormatBenchmark {
+    private static final TypeReference<List<UserModel>> USER_LIST = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    String format;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private List<UserModel> users;
+    private List<UserEntity> userEntities;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        users = BenchmarkApplication.users(size);
+        userEntities = users.stream()
+                .map(user -> new UserEntity(user.getUserId(), user.getUserName(), user.getUserEmail(), user.getUserBand()))
+                .toList();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        encode(users, bytes);
+        payload = bytes.toByteArray();
+        System.out.printf("%n%s payload for %d users: %d bytes (%.1f per user)%n", format, size, payload.length,
+                (double) payload.length / size);
+    }
+
+    @Benchmark
+    public void encodeModels() throws IOException {
+        encode(users, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void mapAndEncodeEntities() throws IOException {
+        encode(userEntities.stream().map(UserMapper::toModel).toList(), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void encodeEntities() throws IOException {
+        OutputStream outputStream = OutputStream.nullOutputStream();
+        if (format.equals("protobuf")) {
+            CodedOutputStream output = CodedOutputStream.newInstance(outputStream);
+            for (UserEntity userEntity : userEntities) {
+                UserProtobufCodec.writeDelimitedUser(userEntity, output);
+            }
+            output.flush();
+            return;
+        }
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            for (UserEntity userEntity : userEntities) {
+                UserEntityWriter.write(userEntity, generator);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    @Benchmark
+    public List<UserModel> decode() throws IOException {
+        return format.equals("protobuf")
+                ? UserProtobufCodec.readUserList(new ByteArrayInputStream(payload))
+                : objectMapper.readValue(payload, USER_LIST);
+    }
+
+    private void encode(List<UserModel> userModels, OutputStream outputStream) throws IOException {
+        if (format.equals("protobuf")) {
+            CodedOutputStream output = CodedOutputStream.newInstance(outputStream);
+            UserProtobufCodec.writeUserList(userModels, output);
+            output.flush();
+        } else {
+            objectMapper.writeValue(outputStream, userModels);
+        }
+    }
+}
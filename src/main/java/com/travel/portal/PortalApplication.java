@@ -1,13 +1,21 @@
 package com.travel.portal;
 
+import com.travel.portal.config.StartupReporter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class PortalApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(PortalApplication.class, args);
+        SpringApplication application = new SpringApplication(PortalApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(StartupReporter.BUFFER_CAPACITY));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,194 @@
+package com.travel.portal.cache;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Loads users by ID with request coalescing in front of the database.
+ * <p>
+ * Concurrent callers for the same ID share one in-flight load (single flight). Distinct IDs
+ * requested within {@code portal.cache.user.loader.batch-window} of the first one are gathered
+ * and loaded with a single {@code findAllById}, i.e. one {@code IN (...)} query and one pool
+ * checkout. Results are never kept once the load completes; caching is {@link UserCache}'s job.
+ * <p>
+ * Loads run in a read-write transaction so they always go to the primary: what they return is
+ * cached for minutes, and a replica that lags behind a write the cache was just invalidated for
+ * would put the old row straight back.
+ */
+@Component
+public class CoalescingUserLoader implements MeterBinder, AutoCloseable {
+    private final UserRepository userRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final long batchWindowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService executor;
+    private final Map<Integer, CompletableFuture<Optional<UserEntity>>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock batchLock = new ReentrantLock();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private volatile DistributionSummary batchSizes;
+    private List<Integer> openBatch;
+
+    public CoalescingUserLoader(UserRepository userRepository, UserCacheProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.batchWindowNanos = properties.getLoader().getBatchWindow().toNanos();
+        this.maxBatchSize = properties.getLoader().getMaxBatchSize();
+        this.executor = new ScheduledThreadPoolExecutor(properties.getLoader().getThreads(), new CustomizableThreadFactory("user-loader-"));
+    }
+
+    public Optional<UserEntity> findById(int userId) {
+        requests.increment();
+        CompletableFuture<Optional<UserEntity>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<UserEntity>> shared = inFlight.putIfAbsent(userId, load);
+        if (shared == null) {
+            loads.increment();
+            if (batchWindowNanos > 0) {
+                enqueue(userId);
+            } else {
+                loadAlone(userId, load);
+            }
+            shared = load;
+        }
+        try {
+            return shared.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Lookups issued so far divided by the loads they needed; 1 means nothing was coalesced.
+     */
+    public double coalescingRatio() {
+        long loaded = loads.sum();
+        return loaded == 0 ? 1 : (double) requests.sum() / loaded;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("portal.user.loader.requests", requests, LongAdder::sum)
+                .description("User lookups asked of the loader")
+                .register(registry);
+        FunctionCounter.builder("portal.user.loader.loads", loads, LongAdder::sum)
+                .description("Distinct user loads left after coalescing identical lookups")
+                .register(registry);
+        Gauge.builder("portal.user.loader.coalescing.ratio", this, CoalescingUserLoader::coalescingRatio)
+                .description("Lookups per load since startup")
+                .register(registry);
+        batchSizes = DistributionSummary.builder("portal.user.loader.batch.size")
+                .description("User IDs per batched IN query")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) Math.max(maxBatchSize, 1))
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void loadAlone(int userId, CompletableFuture<Optional<UserEntity>> load) {
+        try {
+            Optional<UserEntity> userEntity = primaryTransaction.execute(status -> userRepository.findById(userId));
+            inFlight.remove(userId, load);
+            load.complete(userEntity);
+        } catch (RuntimeException e) {
+            inFlight.remove(userId, load);
+            load.completeExceptionally(e);
+        }
+    }
+
+    private void enqueue(int userId) {
+        List<Integer> batch;
+        boolean full;
+        boolean opened;
+        batchLock.lock();
+        try {
+            opened = openBatch == null;
+            if (opened) {
+                openBatch = new ArrayList<>();
+            }
+            batch = openBatch;
+            batch.add(userId);
+            full = batch.size() >= maxBatchSize;
+            if (full) {
+                openBatch = null;
+            }
+        } finally {
+            batchLock.unlock();
+        }
+        if (full) {
+            executor.execute(() -> loadBatch(batch));
+        } else if (opened) {
+            executor.schedule(() -> closeAndLoad(batch), batchWindowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void closeAndLoad(List<Integer> batch) {
+        batchLock.lock();
+        try {
+            if (openBatch != batch) {
+                return;
+            }
+            openBatch = null;
+        } finally {
+            batchLock.unlock();
+        }
+        loadBatch(batch);
+    }
+
+    private void loadBatch(List<Integer> userIds) {
+        DistributionSummary summary = batchSizes;
+        if (summary != null) {
+            summary.record(userIds.size());
+        }
+        try {
+            Map<Integer, UserEntity> found = new HashMap<>();
+            for (UserEntity userEntity : primaryTransaction.execute(status -> userRepository.findAllById(userIds))) {
+                found.put(userEntity.getUserId(), userEntity);
+            }
+            for (Integer userId : userIds) {
+                CompletableFuture<Optional<UserEntity>> load = inFlight.remove(userId);
+                if (load != null) {
+                    load.complete(Optional.ofNullable(found.get(userId)));
+                }
+            }
+        } catch (RuntimeException e) {
+            for (Integer userId : userIds) {
+                CompletableFuture<Optional<UserEntity>> load = inFlight.remove(userId);
+                if (load != null) {
+                    load.completeExceptionally(e);
+                }
+            }
+        }
+    }
+}
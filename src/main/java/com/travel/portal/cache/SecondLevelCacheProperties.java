@@ -0,0 +1,39 @@
+package com.travel.portal.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "portal.cache.second-level")
+public class SecondLevelCacheProperties {
+    /**
+     * Hibernate cache regions by name. Every region Hibernate uses must be listed here.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+        /**
+         * Entries kept on the Java heap.
+         */
+        private long heapEntries = 1_000;
+
+        /**
+         * Optional off-heap tier behind the heap tier; entries there are serialised.
+         */
+        private DataSize offHeap;
+
+        /**
+         * Time to live for entries; unset means entries only leave through eviction.
+         */
+        private Duration timeToLive;
+    }
+}
@@ -0,0 +1,125 @@
+package com.travel.portal.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.travel.portal.directory.UserDirectory;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * Bounded read-through cache in front of {@link CoalescingUserLoader}, or straight in front of
+ * {@link UserRepository#findById} when built without one.
+ * <p>
+ * Caffeine gives us size and TTL eviction with a W-TinyLFU admission policy, so a scan over
+ * cold users cannot flush the hot travellers out. Missing users are not cached. Writers must
+ * call {@link #put} or {@link #invalidate} after their change is committed.
+ * <p>
+ * {@link #invalidate} also evicts the user from Hibernate's second-level cache and drops the
+ * user query cache region. Hibernate keeps those in step for ORM writes and JPQL bulk updates,
+ * but not for native statements such as {@link UserRepository#deleteReturningById}.
+ * <p>
+ * When the off-heap {@link UserDirectory} is enabled it answers lookups first and this cache
+ * only sees the users it cannot serve.
+ */
+@Component
+public class UserCache implements MeterBinder {
+    private final IntFunction<Optional<UserEntity>> loader;
+    private final Cache<Integer, UserEntity> cache;
+    private final boolean enabled;
+    private final org.hibernate.Cache secondLevelCache;
+    private final UserDirectory userDirectory;
+
+    /**
+     * Cache without a second-level cache behind it, e.g. in tests.
+     */
+    public UserCache(UserRepository userRepository, UserCacheProperties properties) {
+        this(userRepository::findById, properties, null, null);
+    }
+
+    @Autowired
+    public UserCache(CoalescingUserLoader userLoader, UserCacheProperties properties,
+                     EntityManagerFactory entityManagerFactory, @Nullable UserDirectory userDirectory) {
+        this(userLoader::findById, properties, entityManagerFactory, userDirectory);
+    }
+
+    private UserCache(IntFunction<Optional<UserEntity>> loader, UserCacheProperties properties,
+                      EntityManagerFactory entityManagerFactory, UserDirectory userDirectory) {
+        this.loader = loader;
+        this.userDirectory = userDirectory;
+        this.secondLevelCache = entityManagerFactory == null ? null : entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserEntity> findById(int userId) {
+        if (userDirectory != null) {
+            return userDirectory.find(userId, this::findCached);
+        }
+        return findCached(userId);
+    }
+
+    private Optional<UserEntity> findCached(int userId) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        return Optional.ofNullable(cache.get(userId, id -> loader.apply(id).orElse(null)));
+    }
+
+    public void put(UserEntity userEntity) {
+        if (userDirectory != null) {
+            userDirectory.put(userEntity);
+        }
+        if (enabled) {
+            cache.put(userEntity.getUserId(), userEntity);
+        }
+    }
+
+    public void invalidate(int userId) {
+        cache.invalidate(userId);
+        if (userDirectory != null) {
+            userDirectory.invalidate(userId);
+        }
+        if (secondLevelCache != null) {
+            secondLevelCache.evictEntityData(UserEntity.class, userId);
+            secondLevelCache.evictQueryRegion(UserEntity.QUERY_CACHE_REGION);
+        }
+    }
+
+    /**
+     * Drops cached query results after users were added outside Hibernate, which would
+     * otherwise not know the cached lists are stale.
+     */
+    public void invalidateQueries() {
+        if (secondLevelCache != null) {
+            secondLevelCache.evictQueryRegion(UserEntity.QUERY_CACHE_REGION);
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counters since startup.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "users");
+    }
+}
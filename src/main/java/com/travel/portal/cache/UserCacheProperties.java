@@ -0,0 +1,37 @@
+package com.travel.portal.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "portal.cache.user")
+public class UserCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+    private Loader loader = new Loader();
+
+    @Getter
+    @Setter
+    public static class Loader {
+        /**
+         * How long the first lookup of a batch waits for more IDs; zero disables batching and
+         * leaves only the coalescing of identical IDs.
+         */
+        private Duration batchWindow = Duration.ofMillis(2);
+
+        /**
+         * A batch is sent as soon as it holds this many distinct IDs.
+         */
+        private int maxBatchSize = 100;
+
+        /**
+         * Threads running batch queries.
+         */
+        private int threads = 4;
+    }
+}
@@ -0,0 +1,38 @@
+package com.travel.portal.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.travel.portal.entity.UserEntity;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link UserEntity} as the same object Jackson produces for its {@code UserModel},
+ * field by field on the generator. Skips building the model and the bean serializer's
+ * reflective property walk; works for any Jackson format (JSON, CBOR, Smile).
+ */
+public class UserEntityWriter {
+    private static final SerializableString USER_ID = new SerializedString("userId");
+    private static final SerializableString USER_NAME = new SerializedString("userName");
+    private static final SerializableString USER_EMAIL = new SerializedString("userEmail");
+    private static final SerializableString USER_BAND = new SerializedString("userBand");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    private UserEntityWriter() {}
+
+    public static void write(UserEntity userEntity, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(USER_ID);
+        generator.writeNumber(userEntity.getUserId());
+        generator.writeFieldName(USER_NAME);
+        generator.writeString(userEntity.getUserName());
+        generator.writeFieldName(USER_EMAIL);
+        generator.writeString(userEntity.getUserEmail());
+        generator.writeFieldName(USER_BAND);
+        generator.writeString(userEntity.getUserBand());
+        generator.writeFieldName(VERSION);
+        generator.writeNumber(userEntity.getVersion());
+        generator.writeEndObject();
+    }
+}
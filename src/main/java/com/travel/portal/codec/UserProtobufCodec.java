@@ -0,0 +1,135 @@
+package com.travel.portal.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.exception.exceptionDetails.ErrorResponse;
+import com.travel.portal.model.UserModel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes users in the protobuf wire format of {@code proto/user.proto} without generated
+ * message classes: fields are written straight from {@link UserModel} or {@link UserEntity}, so
+ * neither has to be copied into a message object first.
+ */
+public class UserProtobufCodec {
+    private static final int USER_ID = 1;
+    private static final int USER_NAME = 2;
+    private static final int USER_EMAIL = 3;
+    private static final int USER_BAND = 4;
+    private static final int VERSION = 5;
+    private static final int USER_LIST_USERS = 1;
+
+    private UserProtobufCodec() {}
+
+    public static void writeUser(UserModel userModel, CodedOutputStream output) throws IOException {
+        writeUser(userModel.getUserId(), userModel.getUserName(), userModel.getUserEmail(), userModel.getUserBand(),
+                userModel.getVersion(), output);
+    }
+
+    /**
+     * Writes a {@code UserList}; each element is length-prefixed, so its size is computed first.
+     */
+    public static void writeUserList(List<UserModel> userModels, CodedOutputStream output) throws IOException {
+        for (UserModel userModel : userModels) {
+            output.writeTag(USER_LIST_USERS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(userSize(userModel.getUserId(), userModel.getUserName(), userModel.getUserEmail(),
+                    userModel.getUserBand(), userModel.getVersion()));
+            writeUser(userModel, output);
+        }
+    }
+
+    /**
+     * Writes one {@code User} prefixed with its length, the framing {@code parseDelimitedFrom}
+     * expects, for streams of users.
+     */
+    public static void writeDelimitedUser(UserEntity userEntity, CodedOutputStream output) throws IOException {
+        output.writeUInt32NoTag(userSize(userEntity.getUserId(), userEntity.getUserName(), userEntity.getUserEmail(),
+                userEntity.getUserBand(), userEntity.getVersion()));
+        writeUser(userEntity.getUserId(), userEntity.getUserName(), userEntity.getUserEmail(), userEntity.getUserBand(),
+                userEntity.getVersion(), output);
+    }
+
+    public static void writeError(ErrorResponse errorResponse, CodedOutputStream output) throws IOException {
+        writeString(1, errorResponse.getTimestamp() == null ? null : errorResponse.getTimestamp().toString(), output);
+        if (errorResponse.getStatus() != 0) {
+            output.writeInt32(2, errorResponse.getStatus());
+        }
+        writeString(3, errorResponse.getError(), output);
+        writeString(4, errorResponse.getMessage(), output);
+        writeString(5, errorResponse.getPath(), output);
+    }
+
+    /**
+     * Reads one {@code User} up to the end of the input or of the current length limit.
+     * Unknown fields are skipped, so newer clients can send fields this version does not know.
+     */
+    public static UserModel readUser(CodedInputStream input) throws IOException {
+        UserModel userModel = new UserModel();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case USER_ID -> userModel.setUserId(input.readInt32());
+                case USER_NAME -> userModel.setUserName(input.readStringRequireUtf8());
+                case USER_EMAIL -> userModel.setUserEmail(input.readStringRequireUtf8());
+                case USER_BAND -> userModel.setUserBand(input.readStringRequireUtf8());
+                case VERSION -> userModel.setVersion(input.readInt64());
+                default -> input.skipField(tag);
+            }
+        }
+        return userModel;
+    }
+
+    public static List<UserModel> readUserList(InputStream inputStream) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(inputStream);
+        List<UserModel> userModels = new ArrayList<>();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (WireFormat.getTagFieldNumber(tag) != USER_LIST_USERS) {
+                input.skipField(tag);
+                continue;
+            }
+            int limit = input.pushLimit(input.readRawVarint32());
+            userModels.add(readUser(input));
+            input.popLimit(limit);
+        }
+        return userModels;
+    }
+
+    private static void writeUser(int userId, String userName, String userEmail, String userBand, Long version,
+                                  CodedOutputStream output) throws IOException {
+        if (userId != 0) {
+            output.writeInt32(USER_ID, userId);
+        }
+        writeString(USER_NAME, userName, output);
+        writeString(USER_EMAIL, userEmail, output);
+        writeString(USER_BAND, userBand, output);
+        if (version != null) {
+            output.writeInt64(VERSION, version);
+        }
+    }
+
+    private static int userSize(int userId, String userName, String userEmail, String userBand, Long version) {
+        int size = userId == 0 ? 0 : CodedOutputStream.computeInt32Size(USER_ID, userId);
+        size += stringSize(USER_NAME, userName);
+        size += stringSize(USER_EMAIL, userEmail);
+        size += stringSize(USER_BAND, userBand);
+        if (version != null) {
+            size += CodedOutputStream.computeInt64Size(VERSION, version);
+        }
+        return size;
+    }
+
+    private static void writeString(int fieldNumber, String value, CodedOutputStream output) throws IOException {
+        if (value != null) {
+            output.writeString(fieldNumber, value);
+        }
+    }
+
+    private static int stringSize(int fieldNumber, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(fieldNumber, value);
+    }
+}
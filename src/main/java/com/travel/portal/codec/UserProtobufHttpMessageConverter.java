@@ -0,0 +1,84 @@
+package com.travel.portal.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.travel.portal.constant.ApiConstants;
+import com.travel.portal.exception.exceptionDetails.ErrorResponse;
+import com.travel.portal.model.UserModel;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Reads and writes {@code application/x-protobuf} bodies for the types in
+ * {@code proto/user.proto}: a {@link UserModel}, a list of them and {@link ErrorResponse}.
+ */
+public class UserProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final MediaType PROTOBUF = MediaType.parseMediaType(ApiConstants.APPLICATION_PROTOBUF_VALUE);
+
+    public UserProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == UserModel.class || clazz == ErrorResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return (type == UserModel.class || isUserList(type)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (supports(clazz) || isUserList(type)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return isUserList(type)
+                    ? UserProtobufCodec.readUserList(inputMessage.getBody())
+                    : UserProtobufCodec.readUser(CodedInputStream.newInstance(inputMessage.getBody()));
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf user message: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (object instanceof UserModel userModel) {
+            UserProtobufCodec.writeUser(userModel, output);
+        } else if (object instanceof ErrorResponse errorResponse) {
+            UserProtobufCodec.writeError(errorResponse, output);
+        } else if (object instanceof List<?> userModels) {
+            UserProtobufCodec.writeUserList((List<UserModel>) userModels, output);
+        } else {
+            throw new HttpMessageNotWritableException("Cannot write " + object.getClass() + " as protobuf");
+        }
+        output.flush();
+    }
+
+    private static boolean isUserList(Type type) {
+        return type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType
+                && List.class.isAssignableFrom(rawType)
+                && parameterizedType.getActualTypeArguments()[0] == UserModel.class;
+    }
+}
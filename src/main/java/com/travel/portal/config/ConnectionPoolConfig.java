@@ -0,0 +1,60 @@
+package com.travel.portal.config;
+
+import com.travel.portal.datasource.AdaptivePoolSizer;
+import com.travel.portal.datasource.ConnectionLimitingDataSource;
+import com.travel.portal.datasource.PoolSizingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Pool sizing on top of Spring Boot's Hikari setup: a starting size derived from the CPU count
+ * ({@code portal.datasource.pool.auto-size}) and the {@link AdaptivePoolSizer}
+ * ({@code portal.datasource.pool.adaptive.enabled}).
+ */
+@Configuration
+public class ConnectionPoolConfig {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolConfig.class);
+
+    /**
+     * Runs after {@code spring.datasource.hikari.*} is bound and before the pool starts, so the
+     * connection guard of {@link VirtualThreadConfig} is sized from the derived pool size.
+     */
+    @Bean
+    static BeanPostProcessor poolSizingPostProcessor(ObjectProvider<PoolSizingProperties> propertiesProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource) {
+                    PoolSizingProperties properties = propertiesProvider.getObject();
+                    if (properties.isAutoSize()) {
+                        int size = properties.autoSize(Runtime.getRuntime().availableProcessors());
+                        hikariDataSource.setMaximumPoolSize(size);
+                        hikariDataSource.setMinimumIdle(Math.min(size, properties.getMinimumSize()));
+                        logger.info("Sized connection pool to {} connections", size);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "portal.datasource.pool.adaptive.enabled", havingValue = "true")
+    AdaptivePoolSizer adaptivePoolSizer(DataSource dataSource, PoolSizingProperties properties,
+                                        VirtualThreadProperties virtualThreadProperties) throws SQLException {
+        ConnectionLimitingDataSource connectionLimiter = virtualThreadProperties.getConnectionPermits() == 0
+                && dataSource.isWrapperFor(ConnectionLimitingDataSource.class)
+                ? dataSource.unwrap(ConnectionLimitingDataSource.class)
+                : null;
+        return new AdaptivePoolSizer(dataSource.unwrap(HikariDataSource.class), properties, connectionLimiter);
+    }
+}
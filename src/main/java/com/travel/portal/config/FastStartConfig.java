@@ -0,0 +1,24 @@
+package com.travel.portal.config;
+
+import com.travel.portal.datasource.AdaptivePoolSizer;
+import com.travel.portal.directory.UserDirectory;
+import com.travel.portal.service.UserBandAggregates;
+import com.travel.portal.service.UserChangeFeedService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class FastStartConfig {
+
+    /**
+     * Keeps beans with {@code @Scheduled} work eager under {@code spring.main.lazy-initialization},
+     * which the {@code fast-start} profile turns on: their schedules are only registered once the
+     * bean exists, and nothing else would ask for them before the first request.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(UserChangeFeedService.class, UserDirectory.class,
+                AdaptivePoolSizer.class, UserBandAggregates.class);
+    }
+}
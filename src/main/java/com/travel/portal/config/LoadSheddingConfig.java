@@ -0,0 +1,38 @@
+package com.travel.portal.config;
+
+import com.travel.portal.constant.ApiConstants;
+import com.travel.portal.limit.LoadSheddingInterceptor;
+import com.travel.portal.limit.LoadSheddingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts the {@link LoadSheddingInterceptor} in front of the user API
+ * ({@code portal.load-shedding.*}). It is registered as a bean too, so its metrics are bound.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LoadSheddingConfig implements WebMvcConfigurer {
+    private final LoadSheddingProperties properties;
+    private final LoadSheddingInterceptor loadSheddingInterceptor;
+
+    public LoadSheddingConfig(LoadSheddingProperties properties) {
+        this.properties = properties;
+        this.loadSheddingInterceptor = new LoadSheddingInterceptor(properties);
+    }
+
+    @Bean
+    LoadSheddingInterceptor loadSheddingInterceptor() {
+        return loadSheddingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.getRate().isEnabled() || properties.getConcurrency().isEnabled()) {
+            registry.addInterceptor(loadSheddingInterceptor).addPathPatterns(ApiConstants.USER_CONTROLLER_MAPPING + "/**");
+        }
+    }
+}
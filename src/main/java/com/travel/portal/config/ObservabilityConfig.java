@@ -0,0 +1,33 @@
+package com.travel.portal.config;
+
+import com.travel.portal.metrics.RepositoryObservationInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+public class ObservabilityConfig {
+
+    /**
+     * Adds {@link RepositoryObservationInterceptor} to every Spring Data repository proxy.
+     */
+    @Bean
+    static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                            repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(new RepositoryObservationInterceptor(
+                                            observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
+                                            repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.travel.portal.config;
+
+import com.travel.portal.constant.ApiConstants;
+import com.travel.portal.controller.ReactiveUserHandler;
+import com.travel.portal.logging.RequestLogSampler;
+import com.travel.portal.repository.ReactiveUserRepository;
+import com.travel.portal.service.UserBandAggregates;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+
+/**
+ * The user API on WebFlux and R2DBC, active when the application runs as a reactive web
+ * application (the {@code reactive} profile). {@code UserController} and the JPA stack stay
+ * servlet-only; JPA still owns the schema, so the reactive side only reads and writes rows.
+ * <p>
+ * Runs on Netty: with Tomcat also on the classpath Spring Boot would otherwise serve WebFlux
+ * through the servlet adapter, which gives back much of the thread-per-request cost.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    ReactiveUserRepository reactiveUserRepository(ReactiveProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("portal-r2dbc")
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .build();
+        return new ReactiveUserRepository(new ConnectionPool(poolConfiguration));
+    }
+
+    @Bean
+    ReactiveUserHandler reactiveUserHandler(ReactiveUserRepository reactiveUserRepository, UserBandAggregates userBandAggregates,
+                                            Validator validator, RequestLogSampler requestLogSampler) {
+        return new ReactiveUserHandler(reactiveUserRepository, userBandAggregates, validator, requestLogSampler);
+    }
+
+    @Bean
+    RouterFunction<ServerResponse> userRoutes(ReactiveUserHandler handler) {
+        return RouterFunctions.route()
+                .path(ApiConstants.USER_CONTROLLER_MAPPING, builder -> builder
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_FIND_ALL, handler::getAllUsers)
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_FIND_PAGE, handler::getUsersPage)
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_STREAM_ALL, accept(MediaType.APPLICATION_NDJSON), handler::streamAllUsersAsNdjson)
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_STREAM_ALL, handler::streamAllUsersAsJson)
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_SEARCH, handler::searchUsers)
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_SEARCH_SUMMARIES, handler::searchUserSummaries)
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_CHANGES, handler::streamUserChanges)
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_FIND_USER_BY_ID, handler::getUserById)
+                        .POST(ApiConstants.USER_CONTROLLER_MAPPING_FIND_USERS_BY_IDS, contentType(MediaType.APPLICATION_JSON), handler::getUsersByIds)
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_FIND_USER_BY_EMAIL, handler::getUserByEmail)
+                        .GET(ApiConstants.USER_CONTROLLER_MAPPING_BAND_SUMMARY, handler::getBandSummary)
+                        .POST(ApiConstants.USER_CONTROLLER_MAPPING_ADD_USER, contentType(MediaType.APPLICATION_JSON), handler::addUser)
+                        .POST(ApiConstants.USER_CONTROLLER_MAPPING_ADD_USERS,
+                                contentType(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON), handler::addUsers)
+                        .DELETE(ApiConstants.USER_CONTROLLER_MAPPING_DELETE_USER, handler::deleteUser)
+                        .PUT(ApiConstants.USER_CONTROLLER_MAPPING_UPDATE_USER, contentType(MediaType.APPLICATION_JSON), handler::updateUser))
+                .filter((request, next) -> Mono.defer(() -> next.handle(request))
+                        .onErrorResume(failure -> handler.errorResponse(failure, request)))
+                .build();
+    }
+}
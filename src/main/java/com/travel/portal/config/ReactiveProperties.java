@@ -0,0 +1,26 @@
+package com.travel.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "portal.reactive.r2dbc")
+public class ReactiveProperties {
+    /**
+     * R2DBC URL of the database behind {@code spring.datasource}, used by the reactive profile.
+     */
+    private String url;
+    private String username;
+    private String password;
+    private int initialSize = 10;
+    /**
+     * Connections are only held while a statement runs, so a small pool serves many more
+     * concurrent requests than the JDBC pool does.
+     */
+    private int maxSize = 20;
+    private Duration maxIdleTime = Duration.ofMinutes(30);
+}
@@ -0,0 +1,81 @@
+package com.travel.portal.config;
+
+import com.travel.portal.datasource.ReplicaProperties;
+import com.travel.portal.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read/write split ({@code portal.datasource.replicas.enabled}): read-only transactions, such as
+ * the repository reads behind the {@code UserController} GET paths, run on a replica and
+ * everything else on the primary from {@code spring.datasource}.
+ * <p>
+ * The application's {@link DataSource} becomes a {@link LazyConnectionDataSourceProxy} that only
+ * fetches a connection once the transaction's read-only flag is known, and then takes it from the
+ * {@link ReplicaRoutingDataSource} or the primary pool accordingly. Replica pools copy the
+ * primary's Hikari settings and are marked read-only.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portal.datasource.replicas.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               ReplicaProperties properties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) throws SQLException {
+        HikariDataSource primaryPool = primaryDataSource.unwrap(HikariDataSource.class);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaProperties.Instance> instances = properties.getInstances();
+        for (int i = 0; i < instances.size(); i++) {
+            ReplicaProperties.Instance instance = instances.get(i);
+            String name = "replica-" + (i + 1);
+            HikariConfig replicaConfig = new HikariConfig();
+            primaryPool.copyStateTo(replicaConfig);
+            replicaConfig.setPoolName(name);
+            replicaConfig.setJdbcUrl(instance.getUrl());
+            if (instance.getUsername() != null) {
+                replicaConfig.setUsername(instance.getUsername());
+                replicaConfig.setPassword(instance.getPassword());
+            }
+            replicaConfig.setReadOnly(true);
+            // An unreachable replica should not stop startup; the lag check keeps it out of rotation.
+            replicaConfig.setInitializationFailTimeout(-1);
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            replicaConfig.setMetricsTrackerFactory(registry == null ? null : new MicrometerMetricsTrackerFactory(registry));
+            replicas.put(name, new HikariDataSource(replicaConfig));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties.getMaxLag(), properties.getLagQuery());
+    }
+
+    @Bean
+    @Primary
+    LazyConnectionDataSourceProxy dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                             ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,55 @@
+package com.travel.portal.config;
+
+import com.travel.portal.cache.SecondLevelCacheProperties;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.Serializable;
+import java.net.URI;
+
+/**
+ * Builds the JCache manager behind Hibernate's second-level cache from
+ * {@code portal.cache.second-level.regions}, so tier sizes live in configuration next to the
+ * application cache rather than in a separate ehcache.xml.
+ */
+@Configuration(proxyBeanMethods = false)
+public class SecondLevelCacheConfig {
+    private static final URI CACHE_MANAGER_URI = URI.create("urn:portal:hibernate-second-level");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(CACHE_MANAGER_URI, getClass().getClassLoader());
+        properties.getRegions().forEach((name, region) ->
+                cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(toEhcache(region))));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CacheConfiguration<Serializable, Serializable> toEhcache(SecondLevelCacheProperties.Region region) {
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(region.getHeapEntries());
+        if (region.getOffHeap() != null) {
+            resourcePools = resourcePools.offheap(region.getOffHeap().toMegabytes(), MemoryUnit.MB);
+        }
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Serializable.class, Serializable.class, resourcePools)
+                .withExpiry(region.getTimeToLive() == null
+                        ? ExpiryPolicyBuilder.noExpiration()
+                        : ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive()))
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.travel.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "portal.startup")
+public class StartupReportProperties {
+    /**
+     * Startup steps listed in the log and the report, slowest first.
+     */
+    private int slowestSteps = 20;
+    /**
+     * Where to write the JSON startup report; nothing is written when unset.
+     */
+    private Path reportFile;
+    /**
+     * Shut the application down once the report is written, for build-time measurements.
+     */
+    private boolean exitAfterReport = false;
+}
@@ -0,0 +1,96 @@
+package com.travel.portal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.portal.model.StartupReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Logs the slowest startup steps once the application is ready and, when
+ * {@code portal.startup.report-file} is set, writes them as a JSON {@link StartupReport}.
+ * The {@code startupReport} Gradle task uses this to keep a startup-time report with the build.
+ * <p>
+ * Steps are only recorded when the context runs with a {@link BufferingApplicationStartup}, as
+ * {@code PortalApplication.main} sets up; otherwise this listener does nothing.
+ */
+@Component
+public class StartupReporter implements ApplicationListener<ApplicationReadyEvent> {
+    /**
+     * Steps buffered during startup; a cold start records a little over a thousand.
+     */
+    public static final int BUFFER_CAPACITY = 4096;
+
+    Logger logger = LoggerFactory.getLogger(StartupReporter.class);
+    private final StartupReportProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public StartupReporter(StartupReportProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        StartupReport report = report(startup.getBufferedTimeline(), event.getTimeTaken());
+        logger.info("Ready in {} ms; slowest startup steps: {}", report.readyMillis(), report.slowestSteps().stream()
+                .limit(5)
+                .map(step -> step.name() + step.tags() + "=" + step.millis() + "ms")
+                .collect(Collectors.joining(", ")));
+        if (properties.getReportFile() != null) {
+            write(report, properties.getReportFile());
+        }
+        if (properties.isExitAfterReport()) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    StartupReport report(StartupTimeline timeline, Duration timeTaken) {
+        List<StartupReport.Step> slowest = timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(properties.getSlowestSteps())
+                .map(event -> new StartupReport.Step(event.getStartupStep().getName(),
+                        tags(event.getStartupStep()), event.getDuration().toMillis()))
+                .toList();
+        long readyMillis = timeTaken == null ? -1 : timeTaken.toMillis();
+        return new StartupReport(readyMillis, timeline.getEvents().size(), slowest);
+    }
+
+    private static Map<String, String> tags(StartupStep step) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+        return tags;
+    }
+
+    private void write(StartupReport report, Path reportFile) {
+        try {
+            Path parent = reportFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+            logger.info("Startup report written to {}", reportFile.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write startup report to {}", reportFile, e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.travel.portal.config;
+
+import com.travel.portal.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Extra wiring for the opt-in virtual-thread mode ({@code spring.threads.virtual.enabled},
+ * or the {@code virtual-threads} profile). Spring Boot already moves Tomcat and the task
+ * executors onto virtual threads; this adds the connection guard and pinning diagnostics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<VirtualThreadProperties> propertiesProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource) {
+                    VirtualThreadProperties properties = propertiesProvider.getObject();
+                    int permits = properties.getConnectionPermits() > 0
+                            ? properties.getConnectionPermits()
+                            : hikariDataSource.getMaximumPoolSize();
+                    return new ConnectionLimitingDataSource(hikariDataSource, permits, properties.getConnectionAcquireTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "portal.virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties) {
+        return new VirtualThreadPinningMonitor(properties.getPinning().getThreshold());
+    }
+}
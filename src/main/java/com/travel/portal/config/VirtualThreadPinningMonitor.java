@@ -0,0 +1,81 @@
+package com.travel.portal.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread longer than a threshold,
+ * using the JDK's {@code jdk.VirtualThreadPinned} flight recorder event. Pinning usually means
+ * blocking inside a {@code synchronized} block or native frame, which takes a carrier away
+ * from every other virtual thread.
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle, MeterBinder {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int REPORTED_FRAMES = 8;
+
+    Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private final Duration threshold;
+    private final AtomicLong pinnedEvents = new AtomicLong();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+        logger.info("Virtual thread pinning monitor started with threshold {}", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    public long pinnedEvents() {
+        return pinnedEvents.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("portal.virtual-threads.pinned", pinnedEvents, AtomicLong::get)
+                .description("Virtual threads pinned to their carrier for longer than the threshold")
+                .register(registry);
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        if (logger.isWarnEnabled()) {
+            List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+            String stack = frames.stream()
+                    .limit(REPORTED_FRAMES)
+                    .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining(" <- "));
+            logger.warn("Virtual thread pinned for {} ms: {}", event.getDuration().toMillis(), stack);
+        }
+    }
+}
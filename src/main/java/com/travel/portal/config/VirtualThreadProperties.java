@@ -0,0 +1,26 @@
+package com.travel.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "portal.virtual-threads")
+public class VirtualThreadProperties {
+    /**
+     * Concurrent connection checkouts allowed; {@code 0} means the Hikari maximum pool size.
+     */
+    private int connectionPermits = 0;
+    private Duration connectionAcquireTimeout = Duration.ofSeconds(5);
+    private final Pinning pinning = new Pinning();
+
+    @Getter
+    @Setter
+    public static class Pinning {
+        private boolean enabled = true;
+        private Duration threshold = Duration.ofMillis(20);
+    }
+}
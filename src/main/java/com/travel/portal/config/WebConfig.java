@@ -0,0 +1,31 @@
+package com.travel.portal.config;
+
+import com.travel.portal.codec.UserProtobufHttpMessageConverter;
+import com.travel.portal.metrics.TimedMappingJackson2HttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+
+    public WebConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new TimedMappingJackson2HttpMessageConverter(
+                        ((MappingJackson2HttpMessageConverter) converter).getObjectMapper(), meterRegistry)
+                : converter);
+        converters.add(new UserProtobufHttpMessageConverter());
+    }
+}
@@ -5,8 +5,31 @@ public class ApiConstants {
 
     public static final String USER_CONTROLLER_MAPPING = "/user";
     public static final String USER_CONTROLLER_MAPPING_FIND_ALL = "/getAllUsers";
+    public static final String USER_CONTROLLER_MAPPING_FIND_PAGE = "/getUsersPage";
+    public static final String USER_CONTROLLER_MAPPING_STREAM_ALL = "/streamAllUsers";
+    public static final String USER_CONTROLLER_MAPPING_SEARCH = "/searchUsers";
+    public static final String USER_CONTROLLER_MAPPING_SEARCH_SUMMARIES = "/searchUserSummaries";
+    public static final String USER_CONTROLLER_MAPPING_CHANGES = "/changes";
     public static final String USER_CONTROLLER_MAPPING_ADD_USER = "/addUser";
+    public static final String USER_CONTROLLER_MAPPING_ADD_USERS = "/addUsers";
+    public static final String USER_CONTROLLER_MAPPING_IMPORT_USERS = "/importUsers";
     public static final String USER_CONTROLLER_MAPPING_FIND_USER_BY_ID = "/getUserById";
+    public static final String USER_CONTROLLER_MAPPING_FIND_USERS_BY_IDS = "/getUsersByIds";
+    public static final String USER_CONTROLLER_MAPPING_FIND_USER_BY_EMAIL = "/getUserByEmail";
     public static final String USER_CONTROLLER_MAPPING_DELETE_USER = "/deleteUser";
     public static final String USER_CONTROLLER_MAPPING_UPDATE_USER = "/updateUser";
+    public static final String USER_CONTROLLER_MAPPING_BAND_SUMMARY = "/bandSummary";
+
+    public static final String CHANGE_SEQ_HEADER = "X-Change-Seq";
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static final int USER_PAGE_DEFAULT_SIZE = 100;
+    public static final int USER_PAGE_MAX_SIZE = 1000;
+    public static final int USER_BATCH_CHUNK_SIZE = 1000;
+    public static final int USER_BATCH_MAX_ITEMS = 10_000;
+    public static final int USER_MULTI_GET_MAX_IDS = 1000;
+    public static final int USER_MULTI_GET_CHUNK_SIZE = 100;
 }
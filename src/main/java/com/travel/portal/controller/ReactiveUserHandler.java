@@ -0,0 +1,394 @@
+package com.travel.portal.controller;
+
+import com.travel.portal.constant.ApiConstants;
+import com.travel.portal.exception.ConstraintViolations;
+import com.travel.portal.exception.ErrorTemplate;
+import com.travel.portal.exception.exceptionDetails.ChangesPrunedException;
+import com.travel.portal.exception.exceptionDetails.InvalidCursorException;
+import com.travel.portal.exception.exceptionDetails.InvalidUserIdsException;
+import com.travel.portal.exception.exceptionDetails.UserNotFoundException;
+import com.travel.portal.exception.exceptionDetails.UserVersionConflictException;
+import com.travel.portal.logging.RequestLogSampler;
+import com.travel.portal.model.UserBatchItemResult;
+import com.travel.portal.model.UserChange;
+import com.travel.portal.model.UserModel;
+import com.travel.portal.model.UserMultiGetResult;
+import com.travel.portal.model.UserPage;
+import com.travel.portal.model.UserSearchCriteria;
+import com.travel.portal.model.UserSearchPage;
+import com.travel.portal.repository.ReactiveUserRepository;
+import com.travel.portal.service.UserCursorCodec;
+import com.travel.portal.service.UserBandAggregates;
+import com.travel.portal.service.UserBatchService;
+import com.travel.portal.service.UserETags;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebFlux handlers for the {@code reactive} profile, answering every {@link ApiConstants} route
+ * of {@link UserController} with the same parameters, headers and bodies, on top of
+ * {@link ReactiveUserRepository}. Nothing here blocks, so a request holds neither a thread nor
+ * a connection while it waits on the database.
+ * <p>
+ * The list endpoints hand the row {@link Flux} straight to the codec: rows are fetched only as
+ * fast as the client reads the response.
+ */
+public class ReactiveUserHandler {
+    private static final ParameterizedTypeReference<List<Integer>> USER_IDS = new ParameterizedTypeReference<>() {};
+
+    Logger logger = LoggerFactory.getLogger(ReactiveUserHandler.class);
+    private final ReactiveUserRepository userRepository;
+    private final UserBandAggregates userBandAggregates;
+    private final Validator validator;
+    private final RequestLogSampler requestLogSampler;
+
+    public ReactiveUserHandler(ReactiveUserRepository userRepository, UserBandAggregates userBandAggregates,
+                               Validator validator, RequestLogSampler requestLogSampler) {
+        this.userRepository = userRepository;
+        this.userBandAggregates = userBandAggregates;
+        this.validator = validator;
+        this.requestLogSampler = requestLogSampler;
+    }
+
+    public Mono<ServerResponse> getAllUsers(ServerRequest request) {
+        requestLogSampler.log(logger, "getUsers method called");
+        return userRepository.findCollectionVersion().flatMap(collectionVersion -> {
+            String eTag = UserETags.forCollection(collectionVersion);
+            return request.checkNotModified(eTag).switchIfEmpty(Mono.defer(() -> userRepository.findNewestChangeSeq()
+                    .flatMap(changeSeq -> ServerResponse.ok()
+                            .eTag(eTag)
+                            .header(ApiConstants.CHANGE_SEQ_HEADER, String.valueOf(changeSeq))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(userRepository.findAll(), UserModel.class))));
+        });
+    }
+
+    public Mono<ServerResponse> getUsersPage(ServerRequest request) {
+        int size = intParam(request, "size", ApiConstants.USER_PAGE_DEFAULT_SIZE);
+        requestLogSampler.log(logger, "getUsersPage method called with size={}", size);
+        int pageSize = Math.clamp(size, 1, ApiConstants.USER_PAGE_MAX_SIZE);
+        int afterUserId = UserCursorCodec.decode(request.queryParam("cursor").orElse(null));
+        return userRepository.findPageAfter(afterUserId, pageSize + 1).collectList().flatMap(users -> {
+            boolean hasMore = users.size() > pageSize;
+            List<UserModel> page = hasMore ? users.subList(0, pageSize) : users;
+            String nextCursor = hasMore ? UserCursorCodec.encode(page.getLast().getUserId()) : null;
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(UserPage.builder().users(page).nextCursor(nextCursor).build());
+        });
+    }
+
+    public Mono<ServerResponse> streamAllUsersAsNdjson(ServerRequest request) {
+        requestLogSampler.log(logger, "streamAllUsers method called (ndjson)");
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(userRepository.findAll(), UserModel.class);
+    }
+
+    public Mono<ServerResponse> streamAllUsersAsJson(ServerRequest request) {
+        requestLogSampler.log(logger, "streamAllUsers method called (json)");
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(userRepository.findAll(), UserModel.class);
+    }
+
+    public Mono<ServerResponse> searchUsers(ServerRequest request) {
+        int page = Math.max(intParam(request, "page", 0), 0);
+        int size = Math.clamp(intParam(request, "size", ApiConstants.USER_PAGE_DEFAULT_SIZE), 1, ApiConstants.USER_PAGE_MAX_SIZE);
+        requestLogSampler.log(logger, "searchUsers method called with page={}", page);
+        UserSearchCriteria criteria = searchCriteria(request);
+        return searchPage(userRepository.search(criteria, page, size), criteria, page, size);
+    }
+
+    public Mono<ServerResponse> searchUserSummaries(ServerRequest request) {
+        int page = Math.max(intParam(request, "page", 0), 0);
+        int size = Math.clamp(intParam(request, "size", ApiConstants.USER_PAGE_DEFAULT_SIZE), 1, ApiConstants.USER_PAGE_MAX_SIZE);
+        requestLogSampler.log(logger, "searchUserSummaries method called with page={}", page);
+        UserSearchCriteria criteria = searchCriteria(request);
+        return searchPage(userRepository.searchSummaries(criteria, page, size), criteria, page, size);
+    }
+
+    public Mono<ServerResponse> streamUserChanges(ServerRequest request) {
+        long since = longParam(request, "since", 0L);
+        requestLogSampler.log(logger, "streamUserChanges method called since={}", since);
+        Mono<Long> pruned = since <= 0 ? Mono.empty() : userRepository.findOldestChangeSeq()
+                .filter(oldest -> since < oldest - 1);
+        return pruned.flatMap(oldest -> Mono.<ServerResponse>error(new ChangesPrunedException(since)))
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON)
+                        .body(userRepository.findChangesAfter(since), UserChange.class)));
+    }
+
+    public Mono<ServerResponse> getUserById(ServerRequest request) {
+        int userId = intParam(request, "userId", null);
+        requestLogSampler.log(logger, "Get User By Id method called for userId={}", userId);
+        return userRepository.findById(userId)
+                .flatMap(user -> {
+                    String eTag = UserETags.forUser(user.getUserId(), user.getVersion());
+                    return request.checkNotModified(eTag).switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                            .eTag(eTag)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(user)));
+                })
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.notFound().build()));
+    }
+
+    public Mono<ServerResponse> getUsersByIds(ServerRequest request) {
+        return request.bodyToMono(USER_IDS).flatMap(userIds -> {
+            requestLogSampler.log(logger, "Get Users By Ids method called for {} ids", userIds.size());
+            if (userIds.isEmpty() || userIds.size() > ApiConstants.USER_MULTI_GET_MAX_IDS) {
+                return Mono.error(new InvalidUserIdsException("Between 1 and " + ApiConstants.USER_MULTI_GET_MAX_IDS
+                        + " user IDs are required, got " + userIds.size()));
+            }
+            if (userIds.contains(null)) {
+                return Mono.error(new InvalidUserIdsException("User IDs must not be null"));
+            }
+            List<Integer> distinctUserIds = List.copyOf(new LinkedHashSet<>(userIds));
+            List<UserModel> users = new ArrayList<>(distinctUserIds.size());
+            List<Integer> missingIds = new ArrayList<>();
+            return Flux.range(0, (distinctUserIds.size() + ApiConstants.USER_MULTI_GET_CHUNK_SIZE - 1) / ApiConstants.USER_MULTI_GET_CHUNK_SIZE)
+                    .map(chunk -> distinctUserIds.subList(chunk * ApiConstants.USER_MULTI_GET_CHUNK_SIZE,
+                            Math.min((chunk + 1) * ApiConstants.USER_MULTI_GET_CHUNK_SIZE, distinctUserIds.size())))
+                    .concatMap(chunk -> userRepository.findAllById(chunk)
+                            .collectMap(UserModel::getUserId)
+                            .doOnNext(found -> collectInRequestOrder(chunk, found, users, missingIds)))
+                    .then(Mono.defer(() -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(UserMultiGetResult.builder().users(users).missingIds(missingIds).build())));
+        });
+    }
+
+    public Mono<ServerResponse> getUserByEmail(ServerRequest request) {
+        String userEmail = request.queryParam("userEmail")
+                .orElseThrow(() -> new ServerWebInputException("Required parameter 'userEmail' is not present."));
+        requestLogSampler.log(logger, "Get User By Email method called");
+        return userRepository.findByUserEmail(userEmail)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User not found with email: " + userEmail)))
+                .flatMap(user -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(user));
+    }
+
+    public Mono<ServerResponse> getBandSummary(ServerRequest request) {
+        requestLogSampler.log(logger, "getBandSummary method called");
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(userBandAggregates.summary());
+    }
+
+    public Mono<ServerResponse> addUser(ServerRequest request) {
+        requestLogSampler.log(logger, "addUser method called");
+        return request.bodyToMono(UserModel.class)
+                .flatMap(userRepository::insert)
+                .doOnNext(savedUser -> userBandAggregates.added(savedUser.getUserBand()))
+                .flatMap(savedUser -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(savedUser));
+    }
+
+    /**
+     * Reads a JSON array or an NDJSON stream of users as it arrives and stores the valid ones in
+     * chunks of {@link ApiConstants#USER_BATCH_CHUNK_SIZE}, each as one batched statement.
+     */
+    public Mono<ServerResponse> addUsers(ServerRequest request) {
+        requestLogSampler.log(logger, "addUsers method called");
+        AtomicInteger index = new AtomicInteger();
+        // Like UserBatchService: stop reading after the limit and report the first item past it.
+        return request.bodyToFlux(UserModel.class)
+                .take(ApiConstants.USER_BATCH_MAX_ITEMS + 1L)
+                .map(userModel -> index.get() == ApiConstants.USER_BATCH_MAX_ITEMS
+                        ? new PendingUser(index.getAndIncrement(), null, List.of(UserBatchService.ITEM_LIMIT_EXCEEDED))
+                        : validate(index.getAndIncrement(), userModel))
+                .onErrorResume(ServerWebInputException.class, e -> {
+                    logger.warn("Bulk user request stopped at item {}: {}", index.get(), e.getReason());
+                    return Mono.just(new PendingUser(index.get(), null, List.of("Unreadable item: " + e.getReason())));
+                })
+                .buffer(ApiConstants.USER_BATCH_CHUNK_SIZE)
+                .concatMap(chunk -> Flux.fromIterable(chunk)
+                        .filter(pending -> pending.errors() != null)
+                        .map(pending -> UserBatchItemResult.builder()
+                                .index(pending.index())
+                                .status(UserBatchItemResult.Status.INVALID)
+                                .errors(pending.errors())
+                                .build())
+                        .concatWith(persistChunk(chunk.stream().filter(pending -> pending.errors() == null).toList())))
+                .collectSortedList(Comparator.comparingInt(UserBatchItemResult::getIndex))
+                .flatMap(results -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(results));
+    }
+
+    public Mono<ServerResponse> deleteUser(ServerRequest request) {
+        int userId = intParam(request, "userId", null);
+        requestLogSampler.log(logger, "Delete User By Id method called for userId={}", userId);
+        return userRepository.deleteReturningById(userId)
+                .doOnNext(deletedUser -> userBandAggregates.removed(deletedUser.getUserBand()))
+                .flatMap(deletedUser -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(deletedUser))
+                .switchIfEmpty(Mono.defer(() -> error(ErrorTemplate.USER_NOT_FOUND, UserNotFoundException.messageFor(userId), request)));
+    }
+
+    public Mono<ServerResponse> updateUser(ServerRequest request) {
+        return request.bodyToMono(UserModel.class).flatMap(userModel -> {
+            requestLogSampler.log(logger, "updateUser method called for userId={}", userModel.getUserId());
+            Long expectedVersion = userModel.getVersion();
+            return userRepository.updateUserDetails(userModel, expectedVersion).flatMap(updated -> {
+                userBandAggregates.moved(updated.getPreviousBand(), userModel.getUserBand());
+                userModel.setVersion(updated.getVersion());
+                return ServerResponse.ok()
+                        .eTag(UserETags.forUser(userModel.getUserId(), userModel.getVersion()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(userModel);
+            }).switchIfEmpty(Mono.defer(() -> {
+                Mono<Boolean> conflict = expectedVersion == null ? Mono.just(false) : userRepository.existsById(userModel.getUserId());
+                return conflict.flatMap(exists -> Mono.<ServerResponse>error(exists
+                        ? new UserVersionConflictException(userModel.getUserId(), expectedVersion)
+                        : new UserNotFoundException(userModel.getUserId())));
+            }));
+        });
+    }
+
+    /**
+     * Turns the failures {@code GlobalExceptionHandler} handles for the servlet stack into the
+     * same error bodies; anything else is left to WebFlux.
+     */
+    public Mono<ServerResponse> errorResponse(Throwable failure, ServerRequest request) {
+        if (failure instanceof UserNotFoundException) {
+            return error(ErrorTemplate.USER_NOT_FOUND, failure.getMessage(), request);
+        }
+        if (failure instanceof InvalidCursorException) {
+            return error(ErrorTemplate.INVALID_CURSOR, failure.getMessage(), request);
+        }
+        if (failure instanceof InvalidUserIdsException) {
+            return error(ErrorTemplate.INVALID_USER_IDS, failure.getMessage(), request);
+        }
+        if (failure instanceof ChangesPrunedException) {
+            return error(ErrorTemplate.CHANGES_PRUNED, failure.getMessage(), request);
+        }
+        if (failure instanceof UserVersionConflictException) {
+            return error(ErrorTemplate.VERSION_CONFLICT, failure.getMessage(), request);
+        }
+        if (failure instanceof ServerWebInputException inputException) {
+            return error(ErrorTemplate.INVALID_PARAMETER, inputException.getReason(), request);
+        }
+        if (failure instanceof DataIntegrityViolationException) {
+            return ConstraintViolations.isDuplicateEmail(failure)
+                    ? error(ErrorTemplate.USER_ALREADY_EXISTS, "User already exists with given email", request)
+                    : error(ErrorTemplate.DATA_INTEGRITY_VIOLATION, "The request conflicts with existing data", request);
+        }
+        if (failure instanceof ResponseStatusException) {
+            return Mono.error(failure);
+        }
+        return error(ErrorTemplate.INTERNAL_SERVER_ERROR, failure.getMessage(), request);
+    }
+
+    private Flux<UserBatchItemResult> persistChunk(List<PendingUser> chunk) {
+        if (chunk.isEmpty()) {
+            return Flux.empty();
+        }
+        return userRepository.insertAll(chunk.stream().map(PendingUser::userModel).toList())
+                .collectList()
+                .flatMapIterable(savedUsers -> {
+                    List<UserBatchItemResult> results = new ArrayList<>(chunk.size());
+                    for (int i = 0; i < chunk.size(); i++) {
+                        results.add(UserBatchItemResult.builder()
+                                .index(chunk.get(i).index())
+                                .status(UserBatchItemResult.Status.CREATED)
+                                .user(savedUsers.get(i))
+                                .build());
+                        userBandAggregates.added(savedUsers.get(i).getUserBand());
+                    }
+                    return results;
+                })
+                .onErrorResume(DataAccessException.class, e -> {
+                    if (chunk.size() == 1) {
+                        return Flux.just(UserBatchItemResult.builder()
+                                .index(chunk.getFirst().index())
+                                .status(UserBatchItemResult.Status.FAILED)
+                                .errors(List.of(ConstraintViolations.isDuplicateEmail(e)
+                                        ? "User already exists with given email"
+                                        : e.getMessage()))
+                                .build());
+                    }
+                    logger.warn("Bulk user chunk of {} rejected, retrying items individually: {}", chunk.size(), e.getMessage());
+                    return Flux.fromIterable(chunk).concatMap(pending -> persistChunk(List.of(pending)));
+                });
+    }
+
+    private PendingUser validate(int index, UserModel userModel) {
+        Set<ConstraintViolation<UserModel>> violations = validator.validate(userModel);
+        return violations.isEmpty()
+                ? new PendingUser(index, userModel, null)
+                : new PendingUser(index, userModel, violations.stream().map(ConstraintViolation::getMessage).sorted().toList());
+    }
+
+    private <T> Mono<ServerResponse> searchPage(Mono<List<T>> content, UserSearchCriteria criteria, int page, int size) {
+        return content.flatMap(results -> {
+            Mono<Long> total = page == 0 && results.size() < size
+                    ? Mono.just((long) results.size())
+                    : userRepository.countMatching(criteria);
+            return total.flatMap(totalElements -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(UserSearchPage.<T>builder()
+                            .content(results)
+                            .page(page)
+                            .size(size)
+                            .totalElements(totalElements)
+                            .build()));
+        });
+    }
+
+    private static void collectInRequestOrder(List<Integer> chunk, Map<Integer, UserModel> found,
+                                              List<UserModel> users, List<Integer> missingIds) {
+        for (Integer userId : chunk) {
+            UserModel user = found.get(userId);
+            if (user == null) {
+                missingIds.add(userId);
+            } else {
+                users.add(user);
+            }
+        }
+    }
+
+    private static UserSearchCriteria searchCriteria(ServerRequest request) {
+        return new UserSearchCriteria(request.queryParam("band").orElse(null), request.queryParam("namePrefix").orElse(null),
+                request.queryParam("nameContains").orElse(null), request.queryParam("emailDomain").orElse(null));
+    }
+
+    private static int intParam(ServerRequest request, String name, Integer defaultValue) {
+        Optional<String> value = request.queryParam(name);
+        if (value.isEmpty()) {
+            if (defaultValue == null) {
+                throw new ServerWebInputException("Required parameter '" + name + "' is not present.");
+            }
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.get());
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException(String.format("Failed to convert '%s' to required type '%s'", value.get(), "int"));
+        }
+    }
+
+    private static long longParam(ServerRequest request, String name, long defaultValue) {
+        Optional<String> value = request.queryParam(name);
+        try {
+            return value.map(Long::parseLong).orElse(defaultValue);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException(String.format("Failed to convert '%s' to required type '%s'", value.get(), "long"));
+        }
+    }
+
+    private static Mono<ServerResponse> error(ErrorTemplate template, String message, ServerRequest request) {
+        return ServerResponse.status(template.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(template.toErrorResponse(message, request.path()));
+    }
+
+    private record PendingUser(int index, UserModel userModel, List<String> errors) {
+    }
+}
@@ -1,10 +1,34 @@
 package com.travel.portal.controller;
 
+import com.travel.portal.cache.UserCache;
 import com.travel.portal.constant.ApiConstants;
 import com.travel.portal.entity.UserEntity;
+import com.travel.portal.exception.ErrorTemplate;
+import com.travel.portal.exception.exceptionDetails.InvalidUserIdsException;
 import com.travel.portal.exception.exceptionDetails.UserNotFoundException;
+import com.travel.portal.exception.exceptionDetails.UserVersionConflictException;
+import com.travel.portal.logging.RequestLogSampler;
+import com.travel.portal.mapper.UserMapper;
+import com.travel.portal.model.UserBandSummary;
+import com.travel.portal.model.UserBatchItemResult;
+import com.travel.portal.model.UserChange;
+import com.travel.portal.model.UserImportReport;
+import com.travel.portal.model.UserListSnapshot;
 import com.travel.portal.model.UserModel;
+import com.travel.portal.model.UserMultiGetResult;
+import com.travel.portal.model.UserPage;
+import com.travel.portal.model.UserSearchCriteria;
+import com.travel.portal.model.UserSearchPage;
+import com.travel.portal.model.UserSummary;
+import com.travel.portal.repository.UserDetailsUpdate;
 import com.travel.portal.repository.UserRepository;
+import com.travel.portal.service.UserBandAggregates;
+import com.travel.portal.service.UserBatchService;
+import com.travel.portal.service.UserChangeFeedService;
+import com.travel.portal.service.UserCursorCodec;
+import com.travel.portal.service.UserETags;
+import com.travel.portal.service.UserImportService;
+import com.travel.portal.service.UserStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -14,34 +38,63 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(ApiConstants.USER_CONTROLLER_MAPPING)
 @Tag(name = "User Management", description = "APIs for managing users")
 public class UserController {
     Logger logger = LoggerFactory.getLogger(UserController.class);
     private final UserRepository userRepository;
+    private final UserStreamService userStreamService;
+    private final UserCache userCache;
+    private final UserBatchService userBatchService;
+    private final UserChangeFeedService userChangeFeedService;
+    private final UserImportService userImportService;
+    private final UserBandAggregates userBandAggregates;
+    private final RequestLogSampler requestLogSampler;
 
     @Autowired
-    public UserController(UserRepository userRepository) {
+    public UserController(UserRepository userRepository, UserStreamService userStreamService, UserCache userCache,
+                          UserBatchService userBatchService, UserChangeFeedService userChangeFeedService,
+                          UserImportService userImportService, UserBandAggregates userBandAggregates,
+                          RequestLogSampler requestLogSampler) {
         this.userRepository = userRepository;
+        this.userStreamService = userStreamService;
+        this.userCache = userCache;
+        this.userBatchService = userBatchService;
+        this.userChangeFeedService = userChangeFeedService;
+        this.userImportService = userImportService;
+        this.userBandAggregates = userBandAggregates;
+        this.requestLogSampler = requestLogSampler;
     }
 
     @Operation(
             summary = "Get all users",
-            description = "Retrieves a list of all users in the system",
+            description = "Retrieves a list of all users in the system. Send the returned ETag in If-None-Match "
+                    + "to get a 304 without a body while nothing has changed. The X-Change-Seq header is the "
+                    + "change feed position to pass as 'since' to follow later changes",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -53,6 +106,11 @@ public class UserController {
                                     )
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "No user has changed since the given ETag",
+                            content = @Content(schema = @Schema(hidden = true))
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Internal server error",
@@ -60,12 +118,242 @@ public class UserController {
                     )
             }
     )
-    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_FIND_ALL, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<UserModel>> getAllUsers() {
-        logger.info("getUsers method called");
-        List<UserEntity> lstUserDetails = userRepository.findAll();
-        List<UserModel> lstUserModel = lstUserDetails.stream().map(this::convertEntityToModel).toList();
-        return new ResponseEntity<>(lstUserModel, HttpStatus.OK);
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_FIND_ALL, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE,
+            ApiConstants.APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<List<UserModel>> getAllUsers(WebRequest webRequest) {
+        requestLogSampler.log(logger, "getUsers method called");
+        String eTag = UserETags.forCollection(userRepository.findCollectionVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        UserListSnapshot snapshot = userChangeFeedService.findAllUsersWithChangeSeq();
+        List<UserModel> lstUserModel = snapshot.users().stream().map(UserMapper::toModel).toList();
+        // The list may be newer than the version checked above; tag it with its own.
+        return ResponseEntity.ok().eTag(UserETags.forCollection(snapshot.collectionVersion())).header(ApiConstants.CHANGE_SEQ_HEADER, String.valueOf(snapshot.changeSeq())).body(lstUserModel);
+    }
+
+    @Operation(
+            summary = "Get a page of users",
+            description = "Retrieves users in ascending ID order using keyset pagination. Pass the returned "
+                    + "'nextCursor' back as 'cursor' to fetch the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UserPage.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_FIND_PAGE, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<UserPage> getUsersPage(@Parameter(
+            description = "Continuation token from the previous page; omit for the first page"
+    ) @RequestParam(required = false) String cursor, @Parameter(
+            description = "Maximum number of users to return",
+            example = "100"
+    ) @RequestParam(defaultValue = "" + ApiConstants.USER_PAGE_DEFAULT_SIZE) int size) {
+        requestLogSampler.log(logger, "getUsersPage method called with size={}", size);
+        int pageSize = Math.clamp(size, 1, ApiConstants.USER_PAGE_MAX_SIZE);
+        List<UserEntity> lstUserDetails = userRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                UserCursorCodec.decode(cursor), Limit.of(pageSize + 1));
+        boolean hasMore = lstUserDetails.size() > pageSize;
+        List<UserModel> lstUserModel = lstUserDetails.stream().limit(pageSize).map(UserMapper::toModel).toList();
+        String nextCursor = hasMore ? UserCursorCodec.encode(lstUserModel.getLast().getUserId()) : null;
+        return new ResponseEntity<>(UserPage.builder().users(lstUserModel).nextCursor(nextCursor).build(), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Stream all users",
+            description = "Streams every user straight from a database cursor, as NDJSON "
+                    + "(Accept: application/x-ndjson), as a JSON, CBOR or Smile array, as length-prefixed "
+                    + "protobuf users (Accept: application/x-protobuf, schema in proto/user.proto), or as CSV with "
+                    + "a header row (Accept: text/csv) that importUsers accepts back",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Users streamed in ascending ID order",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                            schema = @Schema(implementation = UserModel.class)
+                                    ),
+                                    @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            array = @ArraySchema(schema = @Schema(implementation = UserModel.class))
+                                    ),
+                                    @Content(
+                                            mediaType = ApiConstants.TEXT_CSV_VALUE,
+                                            schema = @Schema(type = "string", example = "userId,userName,userEmail,userBand,version")
+                                    )
+                            }
+                    )
+            }
+    )
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_STREAM_ALL, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsersAsNdjson() {
+        requestLogSampler.log(logger, "streamAllUsers method called (ndjson)");
+        return new ResponseEntity<>(userStreamService::writeNdjson, HttpStatus.OK);
+    }
+
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_STREAM_ALL, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsersAsJson() {
+        requestLogSampler.log(logger, "streamAllUsers method called (json)");
+        return new ResponseEntity<>(userStreamService::writeJsonArray, HttpStatus.OK);
+    }
+
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_STREAM_ALL, produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsersAsCbor() {
+        requestLogSampler.log(logger, "streamAllUsers method called (cbor)");
+        return new ResponseEntity<>(userStreamService::writeCborArray, HttpStatus.OK);
+    }
+
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_STREAM_ALL, produces = ApiConstants.APPLICATION_SMILE_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsersAsSmile() {
+        requestLogSampler.log(logger, "streamAllUsers method called (smile)");
+        return new ResponseEntity<>(userStreamService::writeSmileArray, HttpStatus.OK);
+    }
+
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_STREAM_ALL, produces = ApiConstants.APPLICATION_PROTOBUF_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsersAsProtobuf() {
+        requestLogSampler.log(logger, "streamAllUsers method called (protobuf)");
+        return new ResponseEntity<>(userStreamService::writeProtobufDelimited, HttpStatus.OK);
+    }
+
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_STREAM_ALL, produces = ApiConstants.TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsersAsCsv() {
+        requestLogSampler.log(logger, "streamAllUsers method called (csv)");
+        return new ResponseEntity<>(userStreamService::writeCsv, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Search users",
+            description = "Filters users by band, name prefix, name substring and email domain. Only the filters "
+                    + "given are applied; results are ordered by user ID and paged by offset."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the matching users",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UserSearchPage.class)
+                    )
+            )
+    })
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_SEARCH, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<UserSearchPage<UserModel>> searchUsers(
+            @Parameter(description = "Exact band to match", example = "L2") @RequestParam(required = false) String band,
+            @Parameter(description = "Case-insensitive name prefix", example = "jo") @RequestParam(required = false) String namePrefix,
+            @Parameter(description = "Case-insensitive name substring", example = "doe") @RequestParam(required = false) String nameContains,
+            @Parameter(description = "Email domain", example = "example.com") @RequestParam(required = false) String emailDomain,
+            @Parameter(description = "Zero-based page number", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Maximum number of users to return", example = "100")
+            @RequestParam(defaultValue = "" + ApiConstants.USER_PAGE_DEFAULT_SIZE) int size) {
+        requestLogSampler.log(logger, "searchUsers method called with page={}", page);
+        UserSearchCriteria criteria = new UserSearchCriteria(band, namePrefix, nameContains, emailDomain);
+        Page<UserEntity> result = userRepository.search(criteria, searchPageable(page, size));
+        return new ResponseEntity<>(UserSearchPage.of(result, UserMapper::toModel), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Search user summaries",
+            description = "Same filters as searchUsers, returning only ID, name and band. The database selects "
+                    + "just those columns, which keeps large result pages cheap."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the matching user summaries",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UserSearchPage.class)
+                    )
+            )
+    })
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_SEARCH_SUMMARIES, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<UserSearchPage<UserSummary>> searchUserSummaries(
+            @Parameter(description = "Exact band to match", example = "L2") @RequestParam(required = false) String band,
+            @Parameter(description = "Case-insensitive name prefix", example = "jo") @RequestParam(required = false) String namePrefix,
+            @Parameter(description = "Case-insensitive name substring", example = "doe") @RequestParam(required = false) String nameContains,
+            @Parameter(description = "Email domain", example = "example.com") @RequestParam(required = false) String emailDomain,
+            @Parameter(description = "Zero-based page number", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Maximum number of users to return", example = "100")
+            @RequestParam(defaultValue = "" + ApiConstants.USER_PAGE_DEFAULT_SIZE) int size) {
+        requestLogSampler.log(logger, "searchUserSummaries method called with page={}", page);
+        UserSearchCriteria criteria = new UserSearchCriteria(band, namePrefix, nameContains, emailDomain);
+        Page<UserSummary> result = userRepository.searchSummaries(criteria, searchPageable(page, size));
+        return new ResponseEntity<>(UserSearchPage.of(result, summary -> summary), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Count users per band",
+            description = "Returns the number of users in each band from counts kept in memory, so the cost does not "
+                    + "grow with the number of users. Writes made through this instance show up immediately; the "
+                    + "counts are reconciled with the database every portal.bands.reconcile-interval."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the band counts",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UserBandSummary.class)
+                    )
+            )
+    })
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_BAND_SUMMARY, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<UserBandSummary> getBandSummary() {
+        requestLogSampler.log(logger, "getBandSummary method called");
+        return new ResponseEntity<>(userBandAggregates.summary(), HttpStatus.OK);
+    }
+
+    private static Pageable searchPageable(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, ApiConstants.USER_PAGE_MAX_SIZE));
+    }
+
+    @Operation(
+            summary = "Stream user changes",
+            description = "Streams every user change after 'since' as NDJSON, in commit order. Inserts and "
+                    + "updates carry the user after the change; deletes are tombstones without one. To start "
+                    + "syncing, load getAllUsers and pass its X-Change-Seq header as 'since'; replaying a change "
+                    + "already reflected there is harmless.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Changes streamed in ascending changeSeq order",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = UserChange.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "410",
+                            description = "Changes after 'since' were pruned; resynchronise from getAllUsers",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponse.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_CHANGES, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUserChanges(@Parameter(
+            description = "Last changeSeq already applied; 0 for the whole retained log",
+            example = "1042"
+    ) @RequestParam(defaultValue = "0") long since) {
+        requestLogSampler.log(logger, "streamUserChanges method called since={}", since);
+        userChangeFeedService.checkRetained(since);
+        return new ResponseEntity<>(outputStream -> userChangeFeedService.writeNdjson(since, outputStream), HttpStatus.OK);
     }
 
     @Operation(
@@ -81,21 +369,116 @@ public class UserController {
                             schema = @Schema(implementation = UserModel.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "User unchanged since the given ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "User not found",
                     content = @Content
             )
     })
-    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_FIND_USER_BY_ID, produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_FIND_USER_BY_ID, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE,
+            ApiConstants.APPLICATION_PROTOBUF_VALUE})
     public ResponseEntity<UserModel> getUserById(@Parameter(
             description = "ID of the user to retrieve",
             required = true,
             example = "1"
-    ) @RequestParam int userId) {
-        logger.info("Get User By Id method called");
-        Optional<UserEntity> userDetails = userRepository.findById(userId);
-        return userDetails.map(userEntity -> new ResponseEntity<>(convertEntityToModel(userEntity), HttpStatus.OK)).orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    ) @RequestParam int userId, WebRequest webRequest) {
+        requestLogSampler.log(logger, "Get User By Id method called for userId={}", userId);
+        Optional<UserEntity> userDetails = userCache.findById(userId);
+        if (userDetails.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        String eTag = UserETags.forUser(userDetails.get());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(UserMapper.toModel(userDetails.get()));
+    }
+
+    @Operation(
+            summary = "Get users by IDs",
+            description = "Retrieves up to " + ApiConstants.USER_MULTI_GET_MAX_IDS + " users in one request. IDs are "
+                    + "looked up in chunks and users are streamed in request order as each chunk resolves; "
+                    + "duplicate IDs are returned once and IDs without a user are listed in 'missingIds'",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = Integer.class, example = "1"))
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Found users and missing IDs",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = UserMultiGetResult.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "No IDs, a null ID, or more IDs than allowed",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponse.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_FIND_USERS_BY_IDS,
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getUsersByIds(@RequestBody List<Integer> userIds) {
+        requestLogSampler.log(logger, "Get Users By Ids method called for {} ids", userIds.size());
+        if (userIds.isEmpty() || userIds.size() > ApiConstants.USER_MULTI_GET_MAX_IDS) {
+            throw new InvalidUserIdsException("Between 1 and " + ApiConstants.USER_MULTI_GET_MAX_IDS
+                    + " user IDs are required, got " + userIds.size());
+        }
+        if (userIds.contains(null)) {
+            throw new InvalidUserIdsException("User IDs must not be null");
+        }
+        List<Integer> distinctUserIds = List.copyOf(new LinkedHashSet<>(userIds));
+        return new ResponseEntity<>(outputStream -> userStreamService.writeUsersByIds(distinctUserIds, outputStream), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Get user by email",
+            description = "Retrieves a specific user by email address, ignoring case"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "User found successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UserModel.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "User not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_FIND_USER_BY_EMAIL, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE,
+            ApiConstants.APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<UserModel> getUserByEmail(@Parameter(
+            description = "Email address of the user to retrieve",
+            required = true,
+            example = "john.doe@example.com"
+    ) @RequestParam String userEmail) {
+        requestLogSampler.log(logger, "Get User By Email method called");
+        UserEntity userDetails = userRepository.findByUserEmail(userEmail)
+                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        return new ResponseEntity<>(UserMapper.toModel(userDetails), HttpStatus.OK);
     }
 
     @Operation(
@@ -149,15 +532,126 @@ public class UserController {
                     )
             }
     )
-    @PostMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_ADD_USER, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_ADD_USER, consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE,
+            ApiConstants.APPLICATION_PROTOBUF_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE,
+            ApiConstants.APPLICATION_PROTOBUF_VALUE})
     public ResponseEntity<UserModel> addUser(@RequestBody UserModel userModel) {
-        logger.info("addUser method called");
-        UserEntity savedUser = userRepository.save(UserEntity.builder()
-                .userName(userModel.getUserName())
-                .userEmail(userModel.getUserEmail())
-                .userBand(userModel.getUserBand())
-                .build());
-        return new ResponseEntity<>(convertEntityToModel(savedUser), HttpStatus.OK);
+        requestLogSampler.log(logger, "addUser method called");
+        UserEntity savedUser = userRepository.save(UserMapper.toNewEntity(userModel));
+        userCache.put(savedUser);
+        userBandAggregates.added(savedUser.getUserBand());
+        return new ResponseEntity<>(UserMapper.toModel(savedUser), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Add users in bulk",
+            description = "Creates up to " + ApiConstants.USER_BATCH_MAX_ITEMS + " users in one request. Accepts a "
+                    + "JSON array or an NDJSON stream of users; valid items are stored in chunked JDBC batches and every "
+                    + "item gets its own result. Items past the limit are not read and the first of them is reported "
+                    + "as invalid; use importUsers for larger loads",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = UserModel.class))
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = UserModel.class)
+                            )
+                    }
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Per-item results, in request order",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(
+                                            schema = @Schema(implementation = UserBatchItemResult.class)
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(schema = @Schema(hidden = true))
+                    )
+            }
+    )
+    @PostMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_ADD_USERS,
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<UserBatchItemResult>> addUsers(InputStream requestBody) throws IOException {
+        requestLogSampler.log(logger, "addUsers method called");
+        List<UserBatchItemResult> results = userBatchService.addUsers(requestBody);
+        for (UserBatchItemResult result : results) {
+            if (result.getStatus() == UserBatchItemResult.Status.CREATED) {
+                userBandAggregates.added(result.getUser().getUserBand());
+            }
+        }
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Import users",
+            description = "Loads users from a CSV file with a header row or from an NDJSON stream. CSV columns other "
+                    + "than userName, userEmail and userBand are ignored, so a CSV export from streamAllUsers can be "
+                    + "imported as is. The upload is parsed as it arrives and copied into the database with COPY, so "
+                    + "memory use does not depend on its size. Rows that fail validation or whose email is taken, "
+                    + "also by an earlier row of the same upload, are rejected and reported; the rest are imported "
+                    + "in one transaction",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = {
+                            @Content(
+                                    mediaType = ApiConstants.TEXT_CSV_VALUE,
+                                    schema = @Schema(type = "string", example = "userName,userEmail,userBand")
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = UserModel.class)
+                            )
+                    }
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Import counts and the rejected rows",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = UserImportReport.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(schema = @Schema(hidden = true))
+                    )
+            }
+    )
+    @PostMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_IMPORT_USERS, consumes = ApiConstants.TEXT_CSV_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserImportReport> importUsersFromCsv(InputStream requestBody) throws IOException {
+        requestLogSampler.log(logger, "importUsers method called (csv)");
+        return imported(userImportService.importCsv(requestBody));
+    }
+
+    @PostMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_IMPORT_USERS, consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserImportReport> importUsersFromNdjson(InputStream requestBody) throws IOException {
+        requestLogSampler.log(logger, "importUsers method called (ndjson)");
+        return imported(userImportService.importNdjson(requestBody));
+    }
+
+    private ResponseEntity<UserImportReport> imported(UserImportReport report) {
+        if (report.getImportedCount() > 0) {
+            userCache.invalidateQueries();
+            report.getImportedByBand().forEach(userBandAggregates::added);
+        }
+        return new ResponseEntity<>(report, HttpStatus.OK);
     }
 
     @Operation(
@@ -182,25 +676,27 @@ public class UserController {
                     )
             )
     })
-    @DeleteMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_DELETE_USER, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<UserModel> deleteUser(@Parameter(
+    @DeleteMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_DELETE_USER, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE,
+            ApiConstants.APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<?> deleteUser(@Parameter(
             description = "ID of the user to delete",
             required = true,
             example = "1"
-    ) @RequestParam int userId) {
-        logger.info("Delete User By Id method called");
-        Optional<UserEntity> userDetails = userRepository.findById(userId);
-        if (userDetails.isPresent()) {
-            userRepository.deleteById(userId);
-            return new ResponseEntity<>(convertEntityToModel(userDetails.get()), HttpStatus.OK);
-        } else {
-            throw new UserNotFoundException(userId);
+    ) @RequestParam int userId, WebRequest webRequest) {
+        requestLogSampler.log(logger, "Delete User By Id method called for userId={}", userId);
+        Optional<UserEntity> deletedUser = userRepository.deleteReturningById(userId);
+        if (deletedUser.isEmpty()) {
+            return ErrorTemplate.USER_NOT_FOUND.toResponse(UserNotFoundException.messageFor(userId), webRequest);
         }
+        userCache.invalidate(userId);
+        userBandAggregates.removed(deletedUser.get().getUserBand());
+        return new ResponseEntity<>(UserMapper.toModel(deletedUser.get()), HttpStatus.OK);
     }
 
     @Operation(
             summary = "Update an existing user",
-            description = "Updates a user's information in the system"
+            description = "Updates a user's information in the system. When 'version' is given, the update only "
+                    + "applies if the user is still at that version"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -226,9 +722,20 @@ public class UserController {
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Another user already exists with given email, or the user changed since 'version'",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             )
     })
-    @PutMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_UPDATE_USER, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PutMapping(value = ApiConstants.USER_CONTROLLER_MAPPING_UPDATE_USER, consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE,
+            ApiConstants.APPLICATION_PROTOBUF_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ApiConstants.APPLICATION_SMILE_VALUE,
+            ApiConstants.APPLICATION_PROTOBUF_VALUE})
     public ResponseEntity<UserModel> updateUser(@io.swagger.v3.oas.annotations.parameters.RequestBody(
             description = "User details to update",
             required = true,
@@ -236,23 +743,23 @@ public class UserController {
                     schema = @Schema(implementation = UserModel.class)
             )
     ) @RequestBody UserModel userModel) {
-        logger.info("updateUser method called");
-        UserEntity updatedUser = userRepository.save(UserEntity.builder()
-                .userId(userModel.getUserId())
-                .userName(userModel.getUserName())
-                .userEmail(userModel.getUserEmail())
-                .userBand(userModel.getUserBand())
-                .build());
-        return new ResponseEntity<>(convertEntityToModel(updatedUser), HttpStatus.OK);
+        requestLogSampler.log(logger, "updateUser method called for userId={}", userModel.getUserId());
+        Long expectedVersion = userModel.getVersion();
+        List<UserDetailsUpdate> updated = expectedVersion == null
+                ? userRepository.updateUserDetails(userModel.getUserId(), userModel.getUserName(),
+                        userModel.getUserEmail(), userModel.getUserBand())
+                : userRepository.updateUserDetailsIfVersion(userModel.getUserId(), userModel.getUserName(),
+                        userModel.getUserEmail(), userModel.getUserBand(), expectedVersion);
+        if (updated.isEmpty()) {
+            if (expectedVersion != null && userRepository.existsById(userModel.getUserId())) {
+                throw new UserVersionConflictException(userModel.getUserId(), expectedVersion);
+            }
+            throw new UserNotFoundException(userModel.getUserId());
+        }
+        userCache.invalidate(userModel.getUserId());
+        userBandAggregates.moved(updated.getFirst().getPreviousBand(), userModel.getUserBand());
+        userModel.setVersion(updated.getFirst().getVersion());
+        return ResponseEntity.ok().eTag(UserETags.forUser(userModel.getUserId(), userModel.getVersion())).body(userModel);
     }
 
-
-    private UserModel convertEntityToModel(@NotNull UserEntity userEntity) {
-        return UserModel.builder()
-                .userId(userEntity.getUserId())
-                .userName(userEntity.getUserName())
-                .userEmail(userEntity.getUserEmail())
-                .userBand(userEntity.getUserBand())
-                .build();
-    }
 }
@@ -0,0 +1,117 @@
+package com.travel.portal.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grows or shrinks the Hikari pool from the connection acquire times it reports.
+ * <p>
+ * Every interval the mean wait for a connection is taken from the {@code hikaricp.connections.acquire}
+ * timer. Long waits, or threads still queued for a connection, grow the pool by a step unless this
+ * host is already CPU bound; consistently short waits with idle connections to spare shrink it by
+ * one. Shrinking only lowers the ceiling: Hikari retires the surplus connections as they idle out.
+ * <p>
+ * When a {@link ConnectionLimitingDataSource} is sized to the pool, its permits follow the pool.
+ */
+public class AdaptivePoolSizer implements MeterBinder {
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    Logger logger = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+    private final HikariDataSource dataSource;
+    private final PoolSizingProperties properties;
+    private final ConnectionLimitingDataSource connectionLimiter;
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    private MeterRegistry registry;
+    private Counter grown;
+    private Counter shrunk;
+    private long lastAcquireCount;
+    private double lastAcquireNanos;
+
+    public AdaptivePoolSizer(HikariDataSource dataSource, PoolSizingProperties properties,
+                             ConnectionLimitingDataSource connectionLimiter) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.connectionLimiter = connectionLimiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        this.grown = Counter.builder("portal.datasource.pool.resizes").tag("direction", "grow")
+                .description("Adaptive connection pool resizes").register(registry);
+        this.shrunk = Counter.builder("portal.datasource.pool.resizes").tag("direction", "shrink")
+                .description("Adaptive connection pool resizes").register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${portal.datasource.pool.adaptive.interval}", initialDelayString = "${portal.datasource.pool.adaptive.interval}")
+    public synchronized void adjust() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        Timer acquireTimer = registry == null ? null
+                : registry.find(ACQUIRE_TIMER).tag("pool", dataSource.getPoolName()).timer();
+        if (pool == null || acquireTimer == null) {
+            return;
+        }
+        long acquireCount = acquireTimer.count();
+        double acquireNanos = acquireTimer.totalTime(TimeUnit.NANOSECONDS);
+        long acquires = acquireCount - lastAcquireCount;
+        long meanWaitNanos = acquires > 0 ? (long) ((acquireNanos - lastAcquireNanos) / acquires) : 0;
+        lastAcquireCount = acquireCount;
+        lastAcquireNanos = acquireNanos;
+
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int current = config.getMaximumPoolSize();
+        int target = nextSize(current, meanWaitNanos, pool.getThreadsAwaitingConnection(),
+                pool.getActiveConnections(), cpuLoad());
+        if (target != current) {
+            resize(config, current, target, meanWaitNanos);
+        }
+    }
+
+    int nextSize(int current, long meanWaitNanos, int threadsAwaiting, int activeConnections, double cpuLoad) {
+        PoolSizingProperties.Adaptive adaptive = properties.getAdaptive();
+        boolean starved = meanWaitNanos > adaptive.getGrowAbove().toNanos() || threadsAwaiting > 0;
+        if (starved) {
+            return cpuLoad < adaptive.getMaxCpuLoad()
+                    ? Math.min(properties.getMaximumSize(), current + adaptive.getStep())
+                    : current;
+        }
+        boolean idle = meanWaitNanos < adaptive.getShrinkBelow().toNanos() && activeConnections < current - adaptive.getStep();
+        return idle ? Math.max(properties.getMinimumSize(), current - 1) : current;
+    }
+
+    private void resize(HikariConfigMXBean config, int current, int target, long meanWaitNanos) {
+        if (target > current) {
+            config.setMaximumPoolSize(target);
+            grown.increment();
+        } else {
+            config.setMinimumIdle(Math.min(config.getMinimumIdle(), target));
+            config.setMaximumPoolSize(target);
+            shrunk.increment();
+        }
+        if (connectionLimiter != null) {
+            connectionLimiter.setMaxConnections(target);
+        }
+        logger.info("Resized connection pool {} from {} to {} (mean acquire wait {} us)",
+                dataSource.getPoolName(), current, target, TimeUnit.NANOSECONDS.toMicros(meanWaitNanos));
+    }
+
+    /**
+     * System load average per core, or {@code 0} where the platform does not report one.
+     */
+    private double cpuLoad() {
+        double loadAverage = operatingSystem.getSystemLoadAverage();
+        return loadAverage < 0 ? 0 : loadAverage / operatingSystem.getAvailableProcessors();
+    }
+}
@@ -0,0 +1,140 @@
+package com.travel.portal.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of connections that can be checked out at once.
+ * <p>
+ * With virtual threads there can be thousands of request threads blocked on the pool at the
+ * same time. Letting them all queue inside Hikari makes every release a stampede; a fair
+ * semaphore sized to the pool keeps the waiters in order and fails them after a bounded wait.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+    private final ResizableSemaphore permits;
+    private final long acquireTimeoutNanos;
+    private int maxConnections;
+
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new ResizableSemaphore(maxConnections);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Follows a pool resize. Shrinking does not revoke permits that are already held; new
+     * checkouts wait until enough of them are returned.
+     */
+    public synchronized void setMaxConnections(int maxConnections) {
+        int delta = maxConnections - this.maxConnections;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reducePermits(-delta);
+        }
+        this.maxConnections = maxConnections;
+    }
+
+    public synchronized int maxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int queueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Timed out waiting for a database connection permit (" + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit", e);
+        }
+    }
+
+    private Connection guard(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PermitReleasingHandler(connection));
+    }
+
+    private static final class ResizableSemaphore extends Semaphore {
+        private ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+
+    private final class PermitReleasingHandler implements InvocationHandler {
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close")) {
+                try {
+                    target.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.travel.portal.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "portal.datasource.pool")
+public class PoolSizingProperties {
+    /**
+     * Size the pool as {@code cores * cpu-multiplier + effective-spindles}, overriding
+     * {@code spring.datasource.hikari.maximum-pool-size}.
+     */
+    private boolean autoSize = false;
+    /**
+     * Cores to size for; {@code 0} means the processors available to this JVM.
+     */
+    private int cores = 0;
+    private int cpuMultiplier = 2;
+    private int effectiveSpindles = 1;
+    private int minimumSize = 4;
+    private int maximumSize = 50;
+    private final Adaptive adaptive = new Adaptive();
+
+    public int autoSize(int availableProcessors) {
+        int sizedFor = cores > 0 ? cores : availableProcessors;
+        return Math.clamp((long) sizedFor * cpuMultiplier + effectiveSpindles, minimumSize, maximumSize);
+    }
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+        private boolean enabled = false;
+        private Duration interval = Duration.ofSeconds(10);
+        /**
+         * Grow when the mean connection acquire time over an interval is above this.
+         */
+        private Duration growAbove = Duration.ofMillis(5);
+        /**
+         * Shrink when the mean connection acquire time over an interval is below this.
+         */
+        private Duration shrinkBelow = Duration.ofNanos(500_000);
+        private int step = 2;
+        /**
+         * System load average per core above which the pool is not grown: more connections
+         * only add contention once this host is CPU bound.
+         */
+        private double maxCpuLoad = 0.9;
+    }
+}
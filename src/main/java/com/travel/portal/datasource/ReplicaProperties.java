@@ -0,0 +1,42 @@
+package com.travel.portal.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "portal.datasource.replicas")
+public class ReplicaProperties {
+    /**
+     * Route read-only transactions to the replicas below; everything else stays on
+     * {@code spring.datasource}.
+     */
+    private boolean enabled = false;
+    /**
+     * Replicas further behind than this are skipped until they catch up.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+    /**
+     * Returns one row with the replica's replay lag in seconds.
+     */
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+    private List<Instance> instances = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Instance {
+        private String url;
+        /**
+         * Defaults to the primary's credentials.
+         */
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,155 @@
+package com.travel.portal.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out connections to read replicas in round-robin order, skipping replicas that are
+ * unreachable or lag more than {@code maxLag} behind the primary, and falling back to the
+ * primary when none is usable.
+ * <p>
+ * Used as the read-only target of a {@code LazyConnectionDataSourceProxy}, so only read-only
+ * transactions get here. Lag is measured every {@code portal.datasource.replicas.lag-check-interval}
+ * with the configured lag query; a replica that fails a checkout is skipped until the next
+ * check finds it healthy again.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, InitializingBean, AutoCloseable {
+    Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(replica -> new Replica(replica.getKey(), replica.getValue()))
+                .toList();
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagQuery = lagQuery;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkLag();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(username, password);
+    }
+
+    private Connection connect(String username, String password) throws SQLException {
+        int count = replicas.size();
+        int start = count == 0 ? 0 : Math.floorMod(next.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            Replica replica = replicas.get((start + i) % count);
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                return username == null ? replica.dataSource.getConnection() : replica.dataSource.getConnection(username, password);
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        if (fallbacks != null) {
+            fallbacks.increment();
+        }
+        return username == null ? primary.getConnection() : primary.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${portal.datasource.replicas.lag-check-interval}", initialDelayString = "${portal.datasource.replicas.lag-check-interval}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                replica.lagMillis = (long) (lagSeconds * 1000);
+                boolean available = replica.lagMillis <= maxLagMillis;
+                if (available != replica.available) {
+                    logger.info("Replica {} {} (lag {} ms)", replica.name, available ? "is back in rotation" : "is too far behind", replica.lagMillis);
+                }
+                replica.available = available;
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    public int availableReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.available).count();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("portal.datasource.replica.lag", replica, r -> r.lagMillis / 1000.0)
+                    .description("Replay lag measured at the last check")
+                    .baseUnit(BaseUnits.SECONDS)
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("portal.datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .description("1 while the replica is in the read rotation")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+        fallbacks = Counter.builder("portal.datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because no replica was usable")
+                .register(registry);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if (replica.available) {
+            logger.warn("Replica {} taken out of rotation: {}", replica.name, e.getMessage());
+        }
+        replica.available = false;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile long lagMillis;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.travel.portal.directory;
+
+import com.travel.portal.entity.UserChangeEntity;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserChange;
+import com.travel.portal.repository.UserChangeRepository;
+import com.travel.portal.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * In-memory user directory that answers ID lookups without JDBC.
+ * <p>
+ * Reads go to an immutable {@link UserDirectorySnapshot} that is built from the database at
+ * startup. Changes are recorded as local changes on top of the snapshot: writes made through
+ * this instance straight away, and every other write from the user change feed every
+ * {@code portal.directory.changes-interval}. A changed user is served from the change; an
+ * invalidated or deleted one falls back to the caller's loader, as do users the directory has
+ * not seen yet.
+ * <p>
+ * Local changes grow with the write rate, so every {@code portal.directory.refresh-interval} the
+ * snapshot is rebuilt from a full scan and the local changes recorded before the scan started,
+ * which the new snapshot already holds, are dropped. A rebuild briefly needs the table twice: the
+ * builder packs the scanned rows on the heap (about {@link UserDirectorySnapshot#footprintBytes}
+ * of the new snapshot, plus the array growth) before copying them off-heap, while the old
+ * snapshot keeps serving until the new one is installed.
+ */
+@Component
+@ConditionalOnProperty(prefix = "portal.directory", name = "enabled", havingValue = "true")
+public class UserDirectory implements MeterBinder {
+    Logger logger = LoggerFactory.getLogger(UserDirectory.class);
+    private final UserRepository userRepository;
+    private final UserChangeRepository userChangeRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate scanTransaction;
+    private final Map<Integer, LocalChange> localChanges = new ConcurrentHashMap<>();
+    private volatile UserDirectorySnapshot snapshot = UserDirectorySnapshot.empty();
+    private long appliedChangeSeq = -1;
+
+    public UserDirectory(UserRepository userRepository,
+                         UserChangeRepository userChangeRepository,
+                         EntityManager entityManager,
+                         PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userChangeRepository = userChangeRepository;
+        this.entityManager = entityManager;
+        // Deliberately not read-only, which would route the scans to a replica: a snapshot must not
+        // be older than the local changes it replaces. The stream queries are read-only on their own.
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Looks the user up locally, calling {@code loader} only when the directory cannot answer.
+     */
+    public Optional<UserEntity> find(int userId, IntFunction<Optional<UserEntity>> loader) {
+        LocalChange localChange = localChanges.get(userId);
+        if (localChange != null) {
+            return localChange.user() == null ? loader.apply(userId) : Optional.of(localChange.user());
+        }
+        UserEntity userEntity = snapshot.find(userId);
+        return userEntity == null ? loader.apply(userId) : Optional.of(userEntity);
+    }
+
+    public void put(UserEntity userEntity) {
+        localChanges.put(userEntity.getUserId(), new LocalChange(userEntity, userEntity.getVersion(), System.nanoTime()));
+    }
+
+    public void invalidate(int userId) {
+        localChanges.put(userId, tombstone());
+    }
+
+    /**
+     * Records the changes sequenced since the last call, or since the snapshot was first built.
+     */
+    @Scheduled(fixedDelayString = "${portal.directory.changes-interval}", initialDelayString = "${portal.directory.changes-interval}")
+    public synchronized void applyChanges() {
+        if (appliedChangeSeq < 0) {
+            return;
+        }
+        Long lastChangeSeq = scanTransaction.execute(status -> {
+            long changeSeq = appliedChangeSeq;
+            try (Stream<UserChangeEntity> changes = userChangeRepository.streamByChangeSeqGreaterThanOrderByChangeSeqAsc(changeSeq)) {
+                Iterator<UserChangeEntity> iterator = changes.iterator();
+                while (iterator.hasNext()) {
+                    UserChangeEntity change = iterator.next();
+                    apply(change);
+                    changeSeq = change.getChangeSeq();
+                    entityManager.detach(change);
+                }
+            }
+            return changeSeq;
+        });
+        if (lastChangeSeq != null && lastChangeSeq > appliedChangeSeq) {
+            logger.debug("User directory applied changes {} to {}", appliedChangeSeq + 1, lastChangeSeq);
+            appliedChangeSeq = lastChangeSeq;
+        }
+    }
+
+    void apply(UserChangeEntity change) {
+        if (change.getOperation() == UserChange.Operation.DELETE) {
+            invalidate(change.getUserId());
+            return;
+        }
+        UserEntity userEntity = new UserEntity(change.getUserId(), change.getUserName(), change.getUserEmail(),
+                change.getUserBand(), change.getVersion());
+        // A write or invalidation made through this instance may already be newer than what the
+        // feed reports, so only a strictly newer version replaces it.
+        localChanges.merge(userEntity.getUserId(), new LocalChange(userEntity, userEntity.getVersion(), System.nanoTime()),
+                (current, next) -> next.version() > current.version() ? next : current);
+    }
+
+    /**
+     * Local change for a user whose current version is not known here, e.g. deleted or updated
+     * without the new row at hand. It sends lookups to the loader, which reads the database, and
+     * no feed entry replaces it; the next rebuild drops it.
+     */
+    private static LocalChange tombstone() {
+        return new LocalChange(null, Long.MAX_VALUE, System.nanoTime());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+        logger.info("User directory loaded {} users into {} bytes off-heap", snapshot.size(), snapshot.footprintBytes());
+    }
+
+    @Scheduled(fixedDelayString = "${portal.directory.refresh-interval}", initialDelayString = "${portal.directory.refresh-interval}")
+    public synchronized void refresh() {
+        long startedAt = System.nanoTime();
+        // Read before the scan: every change up to here committed before it, so is in the snapshot.
+        long headChangeSeq = scanTransaction.execute(status -> userChangeRepository.findNewestChangeSeq().orElse(0L));
+        UserDirectorySnapshot next = scanTransaction.execute(status -> {
+            UserDirectorySnapshot.Builder builder = UserDirectorySnapshot.builder();
+            try (Stream<UserEntity> users = userRepository.streamAllByOrderByUserIdAsc()) {
+                Iterator<UserEntity> iterator = users.iterator();
+                while (iterator.hasNext()) {
+                    UserEntity userEntity = iterator.next();
+                    builder.add(userEntity);
+                    entityManager.detach(userEntity);
+                }
+            }
+            return builder.build();
+        });
+        install(next, startedAt);
+        appliedChangeSeq = Math.max(appliedChangeSeq, headChangeSeq);
+        logger.debug("User directory refreshed with {} users in {} ms", next.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    void install(UserDirectorySnapshot next, long scanStartedAt) {
+        snapshot = next;
+        localChanges.values().removeIf(localChange -> localChange.recordedAt() - scanStartedAt < 0);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("portal.directory.users", this, directory -> directory.snapshot.size())
+                .description("Users in the current directory snapshot")
+                .register(registry);
+        Gauge.builder("portal.directory.memory", this, directory -> directory.snapshot.footprintBytes())
+                .description("Off-heap memory held by the current directory snapshot")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("portal.directory.local-changes", localChanges, Map::size)
+                .description("Local writes not yet folded into a snapshot")
+                .register(registry);
+    }
+
+    private record LocalChange(UserEntity user, long version, long recordedAt) {
+    }
+}
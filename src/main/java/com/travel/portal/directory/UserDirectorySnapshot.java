@@ -0,0 +1,229 @@
+package com.travel.portal.directory;
+
+import com.travel.portal.entity.UserEntity;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, off-heap copy of the user table.
+ * <p>
+ * Two native segments hold everything but the band names:
+ * <ul>
+ *     <li>an open-addressing index of {@code (int userId, int recordOffset + 1)} slots, linear
+ *     probing, load factor at most 0.5; a zero offset marks an empty slot;</li>
+ *     <li>packed records of {@code long version, short band, char nameLength,
+ *     char emailLength} followed by the UTF-8 name and email bytes.</li>
+ * </ul>
+ * Bands are interned into a small {@code String[]} and referenced by index, so
+ * {@link #band(int)} answers without allocating. Memory comes from an automatic arena and is
+ * released once the snapshot is no longer reachable, so readers never see a freed segment.
+ */
+public final class UserDirectorySnapshot {
+    private static final char NULL_LENGTH = Character.MAX_VALUE;
+    private static final int RECORD_HEADER = Long.BYTES + Short.BYTES + 2 * Character.BYTES;
+    private static final int SLOT_SIZE = 2 * Integer.BYTES;
+
+    private final MemorySegment index;
+    private final MemorySegment records;
+    private final String[] bands;
+    private final int mask;
+    private final int size;
+
+    private UserDirectorySnapshot(MemorySegment index, MemorySegment records, String[] bands, int size) {
+        this.index = index;
+        this.records = records;
+        this.bands = bands;
+        this.mask = (int) (index.byteSize() / SLOT_SIZE) - 1;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static UserDirectorySnapshot empty() {
+        return builder().build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Native memory held by the index and records, excluding the interned band names.
+     */
+    public long footprintBytes() {
+        return index.byteSize() + records.byteSize();
+    }
+
+    public boolean contains(int userId) {
+        return recordOffset(userId) >= 0;
+    }
+
+    /**
+     * Band of the user, or {@code null} if the user is not in this snapshot.
+     */
+    public String band(int userId) {
+        long offset = recordOffset(userId);
+        if (offset < 0) {
+            return null;
+        }
+        short band = records.get(ValueLayout.JAVA_SHORT_UNALIGNED, offset + Long.BYTES);
+        return band < 0 ? null : bands[band];
+    }
+
+    /**
+     * Materialises the user as a new, detached entity, or {@code null} if it is not in this snapshot.
+     */
+    public UserEntity find(int userId) {
+        long offset = recordOffset(userId);
+        if (offset < 0) {
+            return null;
+        }
+        long version = records.get(ValueLayout.JAVA_LONG_UNALIGNED, offset);
+        short band = records.get(ValueLayout.JAVA_SHORT_UNALIGNED, offset + Long.BYTES);
+        char nameLength = records.get(ValueLayout.JAVA_CHAR_UNALIGNED, offset + Long.BYTES + Short.BYTES);
+        char emailLength = records.get(ValueLayout.JAVA_CHAR_UNALIGNED, offset + Long.BYTES + Short.BYTES + Character.BYTES);
+        long nameOffset = offset + RECORD_HEADER;
+        long emailOffset = nameOffset + (nameLength == NULL_LENGTH ? 0 : nameLength);
+        return new UserEntity(userId,
+                readString(nameOffset, nameLength),
+                readString(emailOffset, emailLength),
+                band < 0 ? null : bands[band],
+                version);
+    }
+
+    private long recordOffset(int userId) {
+        int slot = hash(userId) & mask;
+        while (true) {
+            long slotOffset = (long) slot * SLOT_SIZE;
+            int recordOffset = index.get(ValueLayout.JAVA_INT, slotOffset + Integer.BYTES);
+            if (recordOffset == 0) {
+                return -1;
+            }
+            if (index.get(ValueLayout.JAVA_INT, slotOffset) == userId) {
+                return recordOffset - 1L;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private String readString(long offset, char length) {
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(records, ValueLayout.JAVA_BYTE, offset, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int hash(int userId) {
+        int h = userId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Collects users on the heap in packed form, then copies them into native memory in {@link #build()}.
+     * User IDs must be unique.
+     */
+    public static final class Builder {
+        private final Map<String, Short> bandIndex = new HashMap<>();
+        private final List<String> bands = new ArrayList<>();
+        private int[] userIds = new int[1024];
+        private int[] offsets = new int[1024];
+        private int count;
+        private byte[] buffer = new byte[4096];
+        private int length;
+
+        private Builder() {
+        }
+
+        public Builder add(UserEntity userEntity) {
+            byte[] name = encode(userEntity.getUserName());
+            byte[] email = encode(userEntity.getUserEmail());
+            int recordLength = RECORD_HEADER + (name == null ? 0 : name.length) + (email == null ? 0 : email.length);
+            ensureCapacity(recordLength);
+            MemorySegment record = MemorySegment.ofArray(buffer).asSlice(length, recordLength);
+            record.set(ValueLayout.JAVA_LONG_UNALIGNED, 0, userEntity.getVersion());
+            record.set(ValueLayout.JAVA_SHORT_UNALIGNED, Long.BYTES, intern(userEntity.getUserBand()));
+            record.set(ValueLayout.JAVA_CHAR_UNALIGNED, Long.BYTES + Short.BYTES, name == null ? NULL_LENGTH : (char) name.length);
+            record.set(ValueLayout.JAVA_CHAR_UNALIGNED, Long.BYTES + Short.BYTES + Character.BYTES, email == null ? NULL_LENGTH : (char) email.length);
+            int cursor = RECORD_HEADER;
+            if (name != null) {
+                MemorySegment.copy(name, 0, record, ValueLayout.JAVA_BYTE, cursor, name.length);
+                cursor += name.length;
+            }
+            if (email != null) {
+                MemorySegment.copy(email, 0, record, ValueLayout.JAVA_BYTE, cursor, email.length);
+            }
+            if (count == userIds.length) {
+                userIds = Arrays.copyOf(userIds, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            userIds[count] = userEntity.getUserId();
+            offsets[count++] = length;
+            length += recordLength;
+            return this;
+        }
+
+        public UserDirectorySnapshot build() {
+            Arena arena = Arena.ofAuto();
+            int slots = Math.max(2, Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1);
+            MemorySegment index = arena.allocate((long) slots * SLOT_SIZE, Integer.BYTES);
+            MemorySegment records = arena.allocate(Math.max(1, length), Long.BYTES);
+            MemorySegment.copy(MemorySegment.ofArray(buffer), 0, records, 0, length);
+            int mask = slots - 1;
+            for (int i = 0; i < count; i++) {
+                int slot = hash(userIds[i]) & mask;
+                while (index.get(ValueLayout.JAVA_INT, (long) slot * SLOT_SIZE + Integer.BYTES) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                index.set(ValueLayout.JAVA_INT, (long) slot * SLOT_SIZE, userIds[i]);
+                index.set(ValueLayout.JAVA_INT, (long) slot * SLOT_SIZE + Integer.BYTES, offsets[i] + 1);
+            }
+            return new UserDirectorySnapshot(index, records, bands.toArray(String[]::new), count);
+        }
+
+        private short intern(String band) {
+            if (band == null) {
+                return -1;
+            }
+            return bandIndex.computeIfAbsent(band, key -> {
+                if (bands.size() == Short.MAX_VALUE) {
+                    throw new IllegalStateException("Too many distinct bands for the user directory");
+                }
+                bands.add(key);
+                return (short) (bands.size() - 1);
+            });
+        }
+
+        private static byte[] encode(String value) {
+            if (value == null) {
+                return null;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length >= NULL_LENGTH) {
+                throw new IllegalArgumentException("User field longer than " + (NULL_LENGTH - 1) + " bytes");
+            }
+            return bytes;
+        }
+
+        private void ensureCapacity(int recordLength) {
+            if ((long) length + recordLength > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("User directory larger than 2 GB");
+            }
+            if (length + recordLength > buffer.length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(Integer.MAX_VALUE - 8L,
+                        Math.max((long) buffer.length * 2, (long) length + recordLength)));
+            }
+        }
+    }
+}
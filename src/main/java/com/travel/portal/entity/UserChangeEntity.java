@@ -0,0 +1,58 @@
+package com.travel.portal.entity;
+
+import com.travel.portal.model.UserChange;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * One row of the user change log. Rows are written only by the {@code tbl_user} trigger in
+ * {@code db/user-changes.sql}, in the transaction that made the change; deletes carry no
+ * after-image. A row has no {@code changeSeq} until {@code UserChangeFeedService} sequences it
+ * after its transaction commits, and only sequenced rows are part of the feed.
+ */
+@Getter
+@Entity
+@Immutable
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "TBL_USER_CHANGE", indexes = {
+        @Index(name = "ix_tbl_user_change_changed_at", columnList = "changedAt"),
+        @Index(name = "ux_tbl_user_change_seq", columnList = "changeSeq", unique = true)
+})
+public class UserChangeEntity {
+    @Id
+    @Column(name = "changeId")
+    long changeId;
+
+    @Column(name = "changeSeq")
+    Long changeSeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 6)
+    UserChange.Operation operation;
+
+    @Column(name = "userId", nullable = false)
+    int userId;
+
+    @Column(name = "userName")
+    String userName;
+
+    @Column(name = "userEmail")
+    String userEmail;
+
+    @Column(name = "userBand")
+    String userBand;
+
+    @Column(name = "version")
+    Long version;
+
+    @Column(name = "changedAt", nullable = false)
+    Instant changedAt;
+}
@@ -5,17 +5,43 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Data
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "TBL_USER")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserEntity.CACHE_REGION)
+@Table(name = "TBL_USER", indexes = @Index(name = "ix_tbl_user_band", columnList = "userBand, userId"))
 public class UserEntity {
+    /**
+     * Unique index on {@code lower(userEmail)}, created by {@code db/user-indexes.sql}.
+     */
+    public static final String EMAIL_UNIQUE_INDEX = "ux_tbl_user_email_lower";
+
+    /**
+     * Second-level cache region holding users by ID.
+     */
+    public static final String CACHE_REGION = "users";
+
+    /**
+     * Query cache region shared by the search queries.
+     */
+    public static final String QUERY_CACHE_REGION = "user-queries";
+
+    /**
+     * IDs drawn per {@code tbl_user_seq} value: each value is the top of a block of this many IDs.
+     */
+    public static final int ID_BLOCK_SIZE = 50;
+
     @Column(name = "userId")
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "userSequence")
+    @SequenceGenerator(name = "userSequence", sequenceName = "TBL_USER_SEQ", allocationSize = ID_BLOCK_SIZE)
     int userId;
 
     @Column(name = "userName")
@@ -26,4 +52,13 @@ public class UserEntity {
 
     @Column(name = "userBand")
     String userBand;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    long version;
+
+    public UserEntity(int userId, String userName, String userEmail, String userBand) {
+        this(userId, userName, userEmail, userBand, 0L);
+    }
 }
@@ -0,0 +1,26 @@
+package com.travel.portal.exception;
+
+import com.travel.portal.entity.UserEntity;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import org.hibernate.exception.ConstraintViolationException;
+
+public class ConstraintViolations {
+    private ConstraintViolations() {}
+
+    /**
+     * Whether the failure, or any of its causes, is a violation of the unique email index.
+     * R2DBC drivers report no constraint name, only the database message, which names it.
+     */
+    public static boolean isDuplicateEmail(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return UserEntity.EMAIL_UNIQUE_INDEX.equalsIgnoreCase(violation.getConstraintName());
+            }
+            if (cause instanceof R2dbcDataIntegrityViolationException violation) {
+                return violation.getMessage() != null
+                        && violation.getMessage().toLowerCase().contains(UserEntity.EMAIL_UNIQUE_INDEX.toLowerCase());
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package com.travel.portal.exception;
+
+import com.travel.portal.exception.exceptionDetails.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed status and error title for each kind of failure, so building an error response
+ * only fills in the message.
+ * <p>
+ * The timestamp is shared by all errors within the same millisecond and the {@code path} text
+ * is cached per request URI, which saves the clock, time zone and string work that otherwise
+ * makes a burst of 404s more expensive than the successful lookups around it.
+ */
+public record ErrorTemplate(HttpStatus status, String error) {
+    public static final ErrorTemplate USER_NOT_FOUND = new ErrorTemplate(HttpStatus.NOT_FOUND, "User Not Found");
+    public static final ErrorTemplate INVALID_PARAMETER = new ErrorTemplate(HttpStatus.BAD_REQUEST, "Invalid Parameter");
+    public static final ErrorTemplate INVALID_CURSOR = new ErrorTemplate(HttpStatus.BAD_REQUEST, "Invalid Cursor");
+    public static final ErrorTemplate INVALID_USER_IDS = new ErrorTemplate(HttpStatus.BAD_REQUEST, "Invalid User IDs");
+    public static final ErrorTemplate CHANGES_PRUNED = new ErrorTemplate(HttpStatus.GONE, "Changes Pruned");
+    public static final ErrorTemplate VERSION_CONFLICT = new ErrorTemplate(HttpStatus.CONFLICT, "Version Conflict");
+    public static final ErrorTemplate USER_ALREADY_EXISTS = new ErrorTemplate(HttpStatus.CONFLICT, "User Already Exists");
+    public static final ErrorTemplate DATA_INTEGRITY_VIOLATION = new ErrorTemplate(HttpStatus.CONFLICT, "Data Integrity Violation");
+    public static final ErrorTemplate TOO_MANY_REQUESTS = new ErrorTemplate(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests");
+    public static final ErrorTemplate SERVICE_OVERLOADED = new ErrorTemplate(HttpStatus.SERVICE_UNAVAILABLE, "Service Overloaded");
+    public static final ErrorTemplate INTERNAL_SERVER_ERROR = new ErrorTemplate(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error");
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final int MAX_CACHED_PATHS = 256;
+    private static final Map<String, String> PATHS = new ConcurrentHashMap<>();
+    private static volatile Timestamp lastTimestamp = new Timestamp(0, LocalDateTime.ofInstant(Instant.EPOCH, ZONE));
+
+    public ResponseEntity<ErrorResponse> toResponse(String message, WebRequest request) {
+        return new ResponseEntity<>(new ErrorResponse(timestamp(), status.value(), error, message, path(request)), status);
+    }
+
+    /**
+     * The same body as {@link #toResponse}, for callers that only have the request URI, such
+     * as the reactive handlers.
+     */
+    public ErrorResponse toErrorResponse(String message, String requestUri) {
+        return new ErrorResponse(timestamp(), status.value(), error, message, path(requestUri));
+    }
+
+    private static LocalDateTime timestamp() {
+        long now = System.currentTimeMillis();
+        Timestamp timestamp = lastTimestamp;
+        if (timestamp.epochMilli() != now) {
+            timestamp = new Timestamp(now, LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZONE));
+            lastTimestamp = timestamp;
+        }
+        return timestamp.value();
+    }
+
+    /**
+     * Same text as {@code request.getDescription(false)}; only URIs of the first few hundred
+     * distinct paths are cached, so scanning random URLs cannot grow the cache.
+     */
+    private static String path(WebRequest request) {
+        if (!(request instanceof ServletWebRequest servletWebRequest)) {
+            return request.getDescription(false);
+        }
+        return path(servletWebRequest.getRequest().getRequestURI());
+    }
+
+    private static String path(String uri) {
+        String path = PATHS.get(uri);
+        if (path == null) {
+            path = "uri=" + uri;
+            if (PATHS.size() < MAX_CACHED_PATHS) {
+                PATHS.putIfAbsent(uri, path);
+            }
+        }
+        return path;
+    }
+
+    private record Timestamp(long epochMilli, LocalDateTime value) {
+    }
+}
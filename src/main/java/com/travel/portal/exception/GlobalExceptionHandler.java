@@ -1,8 +1,16 @@
 package com.travel.portal.exception;
 
+import com.travel.portal.exception.exceptionDetails.ChangesPrunedException;
 import com.travel.portal.exception.exceptionDetails.ErrorResponse;
+import com.travel.portal.exception.exceptionDetails.InvalidCursorException;
+import com.travel.portal.exception.exceptionDetails.InvalidUserIdsException;
+import com.travel.portal.exception.exceptionDetails.RateLimitExceededException;
+import com.travel.portal.exception.exceptionDetails.ServiceOverloadedException;
 import com.travel.portal.exception.exceptionDetails.UserNotFoundException;
-import org.springframework.http.HttpStatus;
+import com.travel.portal.exception.exceptionDetails.UserVersionConflictException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -10,24 +18,17 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
-import java.time.LocalDateTime;
 import java.util.Objects;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUserNotFoundException(
             UserNotFoundException ex,
             WebRequest request) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.NOT_FOUND.value(),
-                "User Not Found",
-                ex.getMessage(),
-                request.getDescription(false)
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return ErrorTemplate.USER_NOT_FOUND.toResponse(ex.getMessage(), request);
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
@@ -38,28 +39,72 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 ex.getValue(),
                 Objects.requireNonNull(ex.getRequiredType()).getSimpleName());
 
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.BAD_REQUEST.value(),
-                "Invalid Parameter",
-                error,
-                request.getDescription(false)
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return ErrorTemplate.INVALID_PARAMETER.toResponse(error, request);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+            InvalidCursorException ex,
+            WebRequest request) {
+        return ErrorTemplate.INVALID_CURSOR.toResponse(ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidUserIdsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidUserIdsException(
+            InvalidUserIdsException ex,
+            WebRequest request) {
+        return ErrorTemplate.INVALID_USER_IDS.toResponse(ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ChangesPrunedException.class)
+    public ResponseEntity<ErrorResponse> handleChangesPrunedException(
+            ChangesPrunedException ex,
+            WebRequest request) {
+        return ErrorTemplate.CHANGES_PRUNED.toResponse(ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(UserVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleUserVersionConflictException(
+            UserVersionConflictException ex,
+            WebRequest request) {
+        return ErrorTemplate.VERSION_CONFLICT.toResponse(ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(
+            RateLimitExceededException ex,
+            WebRequest request) {
+        return withRetryAfter(ErrorTemplate.TOO_MANY_REQUESTS.toResponse(ex.getMessage(), request), ex.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(
+            ServiceOverloadedException ex,
+            WebRequest request) {
+        return withRetryAfter(ErrorTemplate.SERVICE_OVERLOADED.toResponse(ex.getMessage(), request), 1);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex,
+            WebRequest request) {
+        boolean duplicateEmail = ConstraintViolations.isDuplicateEmail(ex);
+        return duplicateEmail
+                ? ErrorTemplate.USER_ALREADY_EXISTS.toResponse("User already exists with given email", request)
+                : ErrorTemplate.DATA_INTEGRITY_VIOLATION.toResponse("The request conflicts with existing data", request);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGlobalException(
             Exception ex,
             WebRequest request) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                "Internal Server Error",
-                ex.getMessage(),
-                request.getDescription(false)
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return ErrorTemplate.INTERNAL_SERVER_ERROR.toResponse(ex.getMessage(), request);
+    }
+
+    private static ResponseEntity<ErrorResponse> withRetryAfter(ResponseEntity<ErrorResponse> response, long seconds) {
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+                .body(response.getBody());
     }
 
 
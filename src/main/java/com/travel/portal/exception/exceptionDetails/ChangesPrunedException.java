@@ -0,0 +1,7 @@
+package com.travel.portal.exception.exceptionDetails;
+
+public class ChangesPrunedException extends StacklessException {
+    public ChangesPrunedException(long since) {
+        super("Changes after " + since + " are no longer retained; resynchronise from getAllUsers");
+    }
+}
@@ -0,0 +1,7 @@
+package com.travel.portal.exception.exceptionDetails;
+
+public class InvalidCursorException extends StacklessException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
@@ -0,0 +1,7 @@
+package com.travel.portal.exception.exceptionDetails;
+
+public class InvalidUserIdsException extends StacklessException {
+    public InvalidUserIdsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.travel.portal.exception.exceptionDetails;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends StacklessException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("Request rate limit exceeded; retry after " + retryAfterSeconds + "s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,7 @@
+package com.travel.portal.exception.exceptionDetails;
+
+public class ServiceOverloadedException extends StacklessException {
+    public ServiceOverloadedException(String endpoint) {
+        super("Too many concurrent " + endpoint + " requests; retry shortly");
+    }
+}
@@ -0,0 +1,12 @@
+package com.travel.portal.exception.exceptionDetails;
+
+/**
+ * Base for expected, client-caused failures that are mapped straight to an error response.
+ * No stack trace is captured and no suppressed exceptions are tracked: the handler only needs
+ * the type and message, and filling in the stack is most of the cost of a throw.
+ */
+public abstract class StacklessException extends RuntimeException {
+    protected StacklessException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,11 +1,15 @@
 package com.travel.portal.exception.exceptionDetails;
 
-public class UserNotFoundException extends RuntimeException{
+public class UserNotFoundException extends StacklessException {
     public UserNotFoundException(String message) {
         super(message);
     }
 
     public UserNotFoundException(int userId) {
-        super("User not found with id: " + userId);
+        super(messageFor(userId));
+    }
+
+    public static String messageFor(int userId) {
+        return "User not found with id: " + userId;
     }
 }
@@ -0,0 +1,7 @@
+package com.travel.portal.exception.exceptionDetails;
+
+public class UserVersionConflictException extends StacklessException {
+    public UserVersionConflictException(int userId, long version) {
+        super("User with id: " + userId + " was modified since version " + version);
+    }
+}
@@ -0,0 +1,88 @@
+package com.travel.portal.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the requests one endpoint runs at once, finding the cap from its latencies
+ * (additive increase, multiplicative decrease).
+ * <p>
+ * The shortest latency seen recently is taken as the endpoint's unloaded latency. A request
+ * that takes longer than {@code tolerance} times that means requests are queueing somewhere
+ * (threads, connections, the database), and the limit is cut by {@code backoffRatio}, at most
+ * once per unloaded latency so one slow burst is not counted many times over. Requests within
+ * tolerance while at least half the limit is in use raise it by one. The unloaded latency is
+ * forgotten every {@code minRttWindow} so it can follow a changing baseline.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final AtomicLong minRttNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastDecreaseAt;
+    private final AtomicLong minRttResetAt;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final long minRttWindowNanos;
+    private final LongSupplier nanoClock;
+
+    public AdaptiveConcurrencyLimiter(LoadSheddingProperties.Concurrency properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(LoadSheddingProperties.Concurrency properties, LongSupplier nanoClock) {
+        this.limit = new AtomicInteger(properties.getInitialLimit());
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.tolerance = properties.getTolerance();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.minRttWindowNanos = properties.getMinRttWindow().toNanos();
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.lastDecreaseAt = new AtomicLong(now);
+        this.minRttResetAt = new AtomicLong(now + minRttWindowNanos);
+    }
+
+    /**
+     * Claims a slot; every successful call must be followed by {@link #release}.
+     */
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit.get()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Frees the slot and adjusts the limit from how long the request took.
+     */
+    public void release(long rttNanos) {
+        int running = inFlight.getAndDecrement();
+        long now = nanoClock.getAsLong();
+        long resetAt = minRttResetAt.get();
+        if (now - resetAt > 0 && minRttResetAt.compareAndSet(resetAt, now + minRttWindowNanos)) {
+            minRttNanos.set(rttNanos);
+        }
+        long minRtt = minRttNanos.accumulateAndGet(rttNanos, Math::min);
+        int current = limit.get();
+        if (rttNanos > minRtt * tolerance) {
+            long lastDecrease = lastDecreaseAt.get();
+            if (now - lastDecrease >= minRtt && lastDecreaseAt.compareAndSet(lastDecrease, now)) {
+                limit.compareAndSet(current, Math.max(minLimit, (int) (current * backoffRatio)));
+            }
+        } else if (running * 2 >= current && current < maxLimit) {
+            limit.compareAndSet(current, current + 1);
+        }
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,114 @@
+package com.travel.portal.limit;
+
+import com.travel.portal.exception.exceptionDetails.RateLimitExceededException;
+import com.travel.portal.exception.exceptionDetails.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns requests away before the handler runs, and so before any database work: first when the
+ * client has used up its {@link TokenBucketRateLimiter} budget (429), then when the endpoint is
+ * already running as many requests as its {@link AdaptiveConcurrencyLimiter} allows (503).
+ * Rejections are thrown as stackless exceptions for {@code GlobalExceptionHandler} to answer.
+ * <p>
+ * Clients are told apart by remote address, the only client identity the portal can trust: a
+ * header such as an API key is not authenticated, so a client could send a new value with every
+ * request to get a fresh budget. Behind a proxy, set {@code server.forward-headers-strategy} so
+ * the remote address is the client's rather than the proxy's.
+ * <p>
+ * Streaming responses keep their concurrency slot until the body has been written, that is
+ * until the asynchronous dispatch completes.
+ */
+public class LoadSheddingInterceptor implements AsyncHandlerInterceptor, MeterBinder {
+    private static final String SLOT_ATTRIBUTE = LoadSheddingInterceptor.class.getName() + ".slot";
+
+    private final LoadSheddingProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Map<Method, AdaptiveConcurrencyLimiter> endpointLimiters = new ConcurrentHashMap<>();
+    private MeterRegistry registry;
+    private Counter rateLimited;
+    private Counter shed;
+
+    public LoadSheddingInterceptor(LoadSheddingProperties properties) {
+        this.properties = properties;
+        LoadSheddingProperties.Rate rate = properties.getRate();
+        this.rateLimiter = rate.isEnabled()
+                ? new TokenBucketRateLimiter(rate.getRequestsPerSecond(), rate.getBurst(), rate.getStripes())
+                : null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        this.rateLimited = Counter.builder("portal.load-shedding.rejected").tag("reason", "rate")
+                .description("Requests rejected before reaching the handler").register(registry);
+        this.shed = Counter.builder("portal.load-shedding.rejected").tag("reason", "concurrency")
+                .description("Requests rejected before reaching the handler").register(registry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        if (rateLimiter != null) {
+            long waitNanos = rateLimiter.tryAcquire(request.getRemoteAddr());
+            if (waitNanos > 0) {
+                count(rateLimited);
+                throw new RateLimitExceededException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+            }
+        }
+        if (properties.getConcurrency().isEnabled() && handler instanceof HandlerMethod handlerMethod) {
+            AdaptiveConcurrencyLimiter limiter = endpointLimiters.get(handlerMethod.getMethod());
+            if (limiter == null) {
+                limiter = endpointLimiters.computeIfAbsent(handlerMethod.getMethod(), this::newLimiter);
+            }
+            if (!limiter.tryAcquire()) {
+                count(shed);
+                throw new ServiceOverloadedException(handlerMethod.getMethod().getName());
+            }
+            request.setAttribute(SLOT_ATTRIBUTE, new Slot(limiter, System.nanoTime()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SLOT_ATTRIBUTE) instanceof Slot slot) {
+            request.removeAttribute(SLOT_ATTRIBUTE);
+            slot.limiter().release(System.nanoTime() - slot.startedAt());
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter(Method endpoint) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties.getConcurrency());
+        if (registry != null) {
+            Gauge.builder("portal.load-shedding.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                    .tag("endpoint", endpoint.getName())
+                    .description("Current adaptive concurrency limit")
+                    .register(registry);
+        }
+        return limiter;
+    }
+
+    private static void count(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record Slot(AdaptiveConcurrencyLimiter limiter, long startedAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.travel.portal.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "portal.load-shedding")
+public class LoadSheddingProperties {
+    private Rate rate = new Rate();
+    private Concurrency concurrency = new Concurrency();
+
+    @Getter
+    @Setter
+    public static class Rate {
+        private boolean enabled = false;
+        private double requestsPerSecond = 100;
+        /**
+         * Requests a client may make at once after being idle.
+         */
+        private int burst = 200;
+        /**
+         * Buckets clients are hashed onto; rounded up to a power of two.
+         */
+        private int stripes = 4096;
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+        private boolean enabled = false;
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+        /**
+         * Latency, as a multiple of the shortest recent latency, above which requests count as
+         * queued and the limit is lowered.
+         */
+        private double tolerance = 2.0;
+        private double backoffRatio = 0.9;
+        private Duration minRttWindow = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,71 @@
+package com.travel.portal.limit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token bucket of {@code requestsPerSecond} with room for {@code burst} requests,
+ * kept as one {@code long} per client: the time at which the bucket would be full again
+ * (the generic cell rate algorithm, which admits exactly what a token bucket admits).
+ * <p>
+ * Clients are hashed onto a fixed number of stripes, so memory is bounded however many clients
+ * appear and no entry ever has to be evicted; clients that share a stripe share its budget.
+ * Each stripe sits on its own cache line and is updated with a single compare-and-set, so
+ * checking a request takes no lock and allocates nothing.
+ */
+public class TokenBucketRateLimiter {
+    /**
+     * {@code long}s per 64-byte cache line; only every eighth slot of the array is used.
+     */
+    private static final int STRIDE = 8;
+
+    private final AtomicLongArray fullAt;
+    private final int stripeMask;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(double requestsPerSecond, int burst, int stripes) {
+        this(requestsPerSecond, burst, stripes, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double requestsPerSecond, int burst, int stripes, LongSupplier nanoClock) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.fullAt = new AtomicLongArray(stripeCount * STRIDE);
+        this.stripeMask = stripeCount - 1;
+        this.nanosPerToken = (long) (1_000_000_000L / requestsPerSecond);
+        this.burstNanos = nanosPerToken * Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        for (int i = 0; i < fullAt.length(); i += STRIDE) {
+            fullAt.set(i, now);
+        }
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @return {@code 0} when the request may proceed, otherwise how many nanoseconds the client
+     * has to wait before its next request would be admitted
+     */
+    public long tryAcquire(Object clientKey) {
+        int index = stripe(clientKey) * STRIDE;
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long current = fullAt.get(index);
+            long next = Math.max(current, now) + nanosPerToken;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (fullAt.compareAndSet(index, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private int stripe(Object clientKey) {
+        int hash = clientKey.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+}
@@ -0,0 +1,41 @@
+package com.travel.portal.logging;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs one request in {@code portal.logging.request.sample-rate} at INFO and the rest at DEBUG,
+ * so per-request logging can stay on under load. Messages are parameterized, so nothing is
+ * formatted unless the event is actually logged.
+ */
+@Component
+public class RequestLogSampler {
+    private final int sampleRate;
+
+    public RequestLogSampler(@Value("${portal.logging.request.sample-rate:1}") int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    public void log(Logger logger, String message) {
+        if (sampled()) {
+            logger.info(message);
+        } else {
+            logger.debug(message);
+        }
+    }
+
+    public void log(Logger logger, String format, Object argument) {
+        if (sampled()) {
+            logger.info(format, argument);
+        } else {
+            logger.debug(format, argument);
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.travel.portal.mapper;
+
+import com.travel.portal.entity.UserChangeEntity;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserChange;
+import com.travel.portal.model.UserModel;
+import org.jetbrains.annotations.NotNull;
+
+public class UserMapper {
+    private UserMapper() {}
+
+    public static UserModel toModel(@NotNull UserEntity userEntity) {
+        return UserModel.builder()
+                .userId(userEntity.getUserId())
+                .userName(userEntity.getUserName())
+                .userEmail(userEntity.getUserEmail())
+                .userBand(userEntity.getUserBand())
+                .version(userEntity.getVersion())
+                .build();
+    }
+
+    /**
+     * Builds an entity for insertion; the user ID is left for the sequence to assign.
+     */
+    public static UserEntity toNewEntity(@NotNull UserModel userModel) {
+        return UserEntity.builder()
+                .userName(userModel.getUserName())
+                .userEmail(userModel.getUserEmail())
+                .userBand(userModel.getUserBand())
+                .build();
+    }
+
+    public static UserChange toChange(@NotNull UserChangeEntity changeEntity) {
+        UserModel afterImage = changeEntity.getOperation() == UserChange.Operation.DELETE ? null : UserModel.builder()
+                .userId(changeEntity.getUserId())
+                .userName(changeEntity.getUserName())
+                .userEmail(changeEntity.getUserEmail())
+                .userBand(changeEntity.getUserBand())
+                .version(changeEntity.getVersion())
+                .build();
+        return UserChange.builder()
+                .changeSeq(changeEntity.getChangeSeq())
+                .operation(changeEntity.getOperation())
+                .userId(changeEntity.getUserId())
+                .user(afterImage)
+                .changedAt(changeEntity.getChangedAt())
+                .build();
+    }
+}
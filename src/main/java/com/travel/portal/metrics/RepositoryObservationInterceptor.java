@@ -0,0 +1,49 @@
+package com.travel.portal.metrics;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every repository call in a {@code portal.repository} observation, which yields both a
+ * timer (call count and duration per method) and a tracing span between the controller span
+ * and the JDBC spans. Tags are computed once per method so the hot path does not build strings.
+ */
+public class RepositoryObservationInterceptor implements MethodInterceptor {
+    public static final String OBSERVATION_NAME = "portal.repository";
+
+    private final ObservationRegistry observationRegistry;
+    private final String repositoryName;
+    private final Map<Method, KeyValues> keyValuesByMethod = new ConcurrentHashMap<>();
+
+    public RepositoryObservationInterceptor(ObservationRegistry observationRegistry, String repositoryName) {
+        this.observationRegistry = observationRegistry;
+        this.repositoryName = repositoryName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (observationRegistry.isNoop()) {
+            return invocation.proceed();
+        }
+        KeyValues keyValues = keyValuesByMethod.computeIfAbsent(invocation.getMethod(),
+                method -> KeyValues.of("repository", repositoryName, "method", method.getName()));
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .lowCardinalityKeyValues(keyValues)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return invocation.proceed();
+        } catch (Throwable throwable) {
+            observation.error(throwable);
+            throw throwable;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.travel.portal.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that records how long response serialization takes
+ * ({@code portal.json.write}), separately from the rest of the request.
+ */
+public class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    public static final String TIMER_NAME = "portal.json.write";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer timer;
+
+    public TimedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.meterRegistry = meterRegistry;
+        this.timer = Timer.builder(TIMER_NAME)
+                .description("Time spent serializing JSON response bodies")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            sample.stop(timer);
+        }
+    }
+}
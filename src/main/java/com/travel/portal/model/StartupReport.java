@@ -0,0 +1,17 @@
+package com.travel.portal.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Where startup time went, as recorded by the application's {@code ApplicationStartup}.
+ *
+ * @param readyMillis   time from launch until the application was ready to serve requests
+ * @param recordedSteps steps recorded in the startup buffer
+ * @param slowestSteps  the slowest steps, including the time spent in their nested steps
+ */
+public record StartupReport(long readyMillis, int recordedSteps, List<Step> slowestSteps) {
+
+    public record Step(String name, Map<String, String> tags, long millis) {
+    }
+}
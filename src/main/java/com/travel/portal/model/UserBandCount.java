@@ -0,0 +1,7 @@
+package com.travel.portal.model;
+
+/**
+ * Number of users in one band, as counted by the database.
+ */
+public record UserBandCount(String userBand, long userCount) {
+}
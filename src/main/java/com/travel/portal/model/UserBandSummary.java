@@ -0,0 +1,25 @@
+package com.travel.portal.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Builder
+@Getter
+@Schema(description = "Number of users in each band")
+public class UserBandSummary {
+    @Schema(
+            description = "Users per band, ordered by band; users without a band are counted under the empty string",
+            example = "{\"L1\": 120, \"L2\": 45}"
+    )
+    Map<String, Long> bands;
+
+    @Schema(description = "Total number of users across all bands", example = "165")
+    long totalUsers;
+
+    @Schema(description = "When the counts were last checked against the database")
+    Instant reconciledAt;
+}
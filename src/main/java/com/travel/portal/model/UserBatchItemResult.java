@@ -0,0 +1,30 @@
+package com.travel.portal.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Schema(description = "Outcome of one item of a bulk user request")
+public class UserBatchItemResult {
+    public enum Status {
+        CREATED,
+        INVALID,
+        FAILED
+    }
+
+    @Schema(description = "Zero-based position of the item in the request body", example = "0")
+    int index;
+
+    @Schema(description = "Whether the item was stored", example = "CREATED")
+    Status status;
+
+    @Schema(description = "The stored user, including its assigned ID; absent unless the status is CREATED")
+    UserModel user;
+
+    @Schema(description = "Validation or database errors for the item; absent when the status is CREATED")
+    List<String> errors;
+}
@@ -0,0 +1,33 @@
+package com.travel.portal.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Builder
+@Getter
+@Schema(description = "One entry of the user change feed")
+public class UserChange {
+    @Schema(description = "Position in the feed; pass the last one seen as 'since' to resume", example = "1042")
+    long changeSeq;
+
+    @Schema(description = "Kind of change", example = "UPDATE")
+    Operation operation;
+
+    @Schema(description = "ID of the changed user", example = "1")
+    int userId;
+
+    @Schema(description = "The user after the change; absent for deletes")
+    UserModel user;
+
+    @Schema(description = "When the change was made", example = "2025-01-31T09:15:00Z")
+    Instant changedAt;
+
+    public enum Operation {
+        INSERT,
+        UPDATE,
+        DELETE
+    }
+}
@@ -0,0 +1,9 @@
+package com.travel.portal.model;
+
+/**
+ * Summary of the whole user table that changes whenever any user is added, updated or deleted:
+ * inserts and deletes move the count and the ID sum (IDs are never reused), updates move the
+ * version sum.
+ */
+public record UserCollectionVersion(long userCount, int maxUserId, long userIdSum, long versionSum) {
+}
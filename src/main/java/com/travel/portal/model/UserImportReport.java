@@ -0,0 +1,29 @@
+package com.travel.portal.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder
+@Getter
+@Schema(description = "Outcome of a bulk user import")
+public class UserImportReport {
+    @Schema(description = "Number of users created", example = "9998")
+    long importedCount;
+
+    @Schema(description = "Number of rows that were not imported", example = "2")
+    long rejectedCount;
+
+    @Schema(description = "Users created per band", example = "{\"L1\": 6000, \"L2\": 3998}")
+    Map<String, Long> importedByBand;
+
+    @Schema(description = "Rejected rows with their errors, in file order; only the first "
+            + "portal.import.max-reported-errors are listed")
+    List<UserBatchItemResult> errors;
+
+    @Schema(description = "Whether more rows were rejected than are listed in 'errors'", example = "false")
+    boolean errorsTruncated;
+}
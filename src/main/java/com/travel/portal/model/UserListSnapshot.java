@@ -0,0 +1,13 @@
+package com.travel.portal.model;
+
+import com.travel.portal.entity.UserEntity;
+
+import java.util.List;
+
+/**
+ * Every user and the collection version, read together no earlier than change
+ * {@code changeSeq}: following the change feed from {@code changeSeq} brings the list up to date,
+ * at worst replaying changes it already includes.
+ */
+public record UserListSnapshot(UserCollectionVersion collectionVersion, long changeSeq, List<UserEntity> users) {
+}
@@ -3,11 +3,15 @@ package com.travel.portal.model;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @Getter
 @Setter
 @Schema(description = "User Model")
@@ -40,6 +44,13 @@ public class UserModel {
     @NotBlank(message = "User band is required")
     String userBand;
 
+    @Schema(
+            description = "Row version. Send back the version you read when updating to reject the update "
+                    + "if someone else changed the user in the meantime",
+            example = "3"
+    )
+    Long version;
+
     @Override
     public String toString() {
         return "UserModel{" +
@@ -0,0 +1,22 @@
+package com.travel.portal.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Shape of the getUsersByIds response. The response itself is streamed field by field, so this
+ * class documents it rather than being serialised.
+ */
+@Builder
+@Getter
+@Schema(description = "Users found for a list of IDs")
+public class UserMultiGetResult {
+    @Schema(description = "Users found, in the order their IDs were requested")
+    List<UserModel> users;
+
+    @Schema(description = "Requested IDs without a user", example = "[7, 12]")
+    List<Integer> missingIds;
+}
@@ -0,0 +1,21 @@
+package com.travel.portal.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Schema(description = "A page of users ordered by user ID")
+public class UserPage {
+    @Schema(description = "Users in this page, in ascending user ID order")
+    List<UserModel> users;
+
+    @Schema(
+            description = "Opaque token to pass as 'cursor' to fetch the next page; absent on the last page",
+            example = "dToxMDA"
+    )
+    String nextCursor;
+}
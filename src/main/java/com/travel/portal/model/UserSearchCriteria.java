@@ -0,0 +1,12 @@
+package com.travel.portal.model;
+
+/**
+ * Filters for a user search; {@code null} or blank fields are ignored.
+ *
+ * @param band         exact band match
+ * @param namePrefix   case-insensitive prefix of the user name
+ * @param nameContains case-insensitive substring of the user name
+ * @param emailDomain  case-insensitive email domain, with or without the leading {@code @}
+ */
+public record UserSearchCriteria(String band, String namePrefix, String nameContains, String emailDomain) {
+}
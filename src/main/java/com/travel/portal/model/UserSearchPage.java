@@ -0,0 +1,35 @@
+package com.travel.portal.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Builder
+@Getter
+@Schema(description = "A page of user search results ordered by user ID")
+public class UserSearchPage<T> {
+    @Schema(description = "Matching users in this page")
+    List<T> content;
+
+    @Schema(description = "Zero-based page number", example = "0")
+    int page;
+
+    @Schema(description = "Requested page size", example = "100")
+    int size;
+
+    @Schema(description = "Number of users matching the search across all pages", example = "1250")
+    long totalElements;
+
+    public static <S, T> UserSearchPage<T> of(Page<S> page, Function<S, T> mapper) {
+        return UserSearchPage.<T>builder()
+                .content(page.getContent().stream().map(mapper).toList())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.travel.portal.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Lightweight view of a user, selected without loading the full entity")
+public record UserSummary(
+        @Schema(description = "Unique identifier of the user", example = "1")
+        int userId,
+        @Schema(description = "Name of the user", example = "John Doe")
+        String userName,
+        @Schema(description = "User's band/level in the organization", example = "L2")
+        String userBand) {
+}
@@ -0,0 +1,351 @@
+package com.travel.portal.repository;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserChange;
+import com.travel.portal.model.UserCollectionVersion;
+import com.travel.portal.model.UserModel;
+import com.travel.portal.model.UserSearchCriteria;
+import com.travel.portal.model.UserSummary;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link UserRepository} and {@link UserChangeRepository} for the
+ * reactive stack: plain SQL over R2DBC against the tables the JPA entities map.
+ * <p>
+ * Streams are fetched {@value #STREAM_FETCH_SIZE} rows at a time and only as fast as the
+ * subscriber requests them. New users take their IDs from {@code tbl_user_seq} the way Hibernate
+ * does, through {@link UserIdBlocks}: each sequence value stands for a block of IDs, which this
+ * repository hands out before drawing the next value.
+ */
+public class ReactiveUserRepository implements DisposableBean {
+    static final int STREAM_FETCH_SIZE = 500;
+    private static final String USER_COLUMNS = "user_id, user_name, user_email, user_band, version";
+    private static final String INSERT_USER = "INSERT INTO tbl_user (" + USER_COLUMNS + ") "
+            + "VALUES ($1, $2, $3, $4, 0)";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final UserIdBlocks idBlocks = new UserIdBlocks();
+
+    public ReactiveUserRepository(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    public Flux<UserModel> findAll() {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM tbl_user ORDER BY user_id")
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(ReactiveUserRepository::toModel)
+                .all();
+    }
+
+    public Mono<UserCollectionVersion> findCollectionVersion() {
+        return databaseClient.sql("SELECT count(*), coalesce(max(user_id), 0), coalesce(sum(user_id), 0), "
+                        + "coalesce(sum(version), 0) FROM tbl_user")
+                .map(row -> new UserCollectionVersion(longValue(row, 0), (int) longValue(row, 1),
+                        longValue(row, 2), longValue(row, 3)))
+                .one();
+    }
+
+    public Flux<UserModel> findPageAfter(int userId, int limit) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM tbl_user WHERE user_id > :userId ORDER BY user_id LIMIT :limit")
+                .bind("userId", userId)
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toModel)
+                .all();
+    }
+
+    public Mono<UserModel> findById(int userId) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM tbl_user WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map(ReactiveUserRepository::toModel)
+                .one();
+    }
+
+    public Flux<UserModel> findAllById(List<Integer> userIds) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM tbl_user WHERE user_id = ANY(:userIds)")
+                .bind("userIds", userIds.toArray(Integer[]::new))
+                .map(ReactiveUserRepository::toModel)
+                .all();
+    }
+
+    public Mono<UserModel> findByUserEmail(String userEmail) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM tbl_user WHERE lower(user_email) = lower(:userEmail)")
+                .bind("userEmail", userEmail)
+                .map(ReactiveUserRepository::toModel)
+                .one();
+    }
+
+    public Mono<Boolean> existsById(int userId) {
+        return databaseClient.sql("SELECT 1 FROM tbl_user WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<UserModel> insert(UserModel userModel) {
+        return insertAll(List.of(userModel)).next();
+    }
+
+    /**
+     * Inserts the users as one batched statement in one transaction, returning them with their
+     * assigned IDs in the same order.
+     */
+    public Flux<UserModel> insertAll(List<UserModel> userModels) {
+        Flux<UserModel> inserted = nextUserIds(userModels.size()).flatMapMany(userIds ->
+                databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(INSERT_USER);
+                    for (int i = 0; i < userModels.size(); i++) {
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        UserModel userModel = userModels.get(i);
+                        statement.bind(0, userIds.get(i));
+                        bindNullable(statement, 1, userModel.getUserName());
+                        bindNullable(statement, 2, userModel.getUserEmail());
+                        bindNullable(statement, 3, userModel.getUserBand());
+                    }
+                    return Flux.from(statement.execute())
+                            .concatMap(Result::getRowsUpdated)
+                            .thenMany(Flux.range(0, userModels.size()))
+                            .map(i -> {
+                                UserModel userModel = userModels.get(i);
+                                return new UserModel(userIds.get(i), userModel.getUserName(), userModel.getUserEmail(),
+                                        userModel.getUserBand(), 0L);
+                            });
+                }));
+        return inserted.as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Reserves {@code count} new user IDs. They come from the current block while it lasts; only
+     * the rest cost a {@code tbl_user_seq} value per {@link UserEntity#ID_BLOCK_SIZE} IDs, and
+     * whatever is left of the last block drawn is kept for later inserts.
+     */
+    Mono<List<Integer>> nextUserIds(int count) {
+        List<Integer> userIds = new ArrayList<>(count);
+        idBlocks.take(userIds, count);
+        return drawUserIds(userIds, count);
+    }
+
+    /**
+     * Draws sequence values until {@code userIds} holds {@code count}; more than one round is only
+     * needed when a short block comes back.
+     */
+    private Mono<List<Integer>> drawUserIds(List<Integer> userIds, int count) {
+        if (userIds.size() >= count) {
+            return Mono.just(userIds);
+        }
+        return databaseClient.sql("SELECT nextval('tbl_user_seq') FROM generate_series(1, :blocks)")
+                .bind("blocks", UserIdBlocks.blocksFor(count - userIds.size()))
+                .map(row -> longValue(row, 0))
+                .all()
+                .collectList()
+                .flatMap(sequenceValues -> {
+                    for (long sequenceValue : sequenceValues) {
+                        idBlocks.add(userIds, count, sequenceValue);
+                    }
+                    return drawUserIds(userIds, count);
+                });
+    }
+
+    /**
+     * Deletes a user and returns the deleted row in the same statement.
+     */
+    public Mono<UserModel> deleteReturningById(int userId) {
+        return databaseClient.sql("DELETE FROM tbl_user WHERE user_id = :userId RETURNING " + USER_COLUMNS)
+                .bind("userId", userId)
+                .map(ReactiveUserRepository::toModel)
+                .one();
+    }
+
+    /**
+     * Overwrites a user's details, only if the row is still at {@code version} when one is given.
+     * The row is locked before it is read, so the band returned is the one this update replaced.
+     *
+     * @return the user's previous band and new version, or an empty {@code Mono} when no row was
+     * updated
+     */
+    public Mono<UserDetailsUpdate> updateUserDetails(UserModel userModel, Long version) {
+        String sql = "UPDATE tbl_user u SET user_name = :userName, user_email = :userEmail, user_band = :userBand, "
+                + "version = u.version + 1 "
+                + "FROM (SELECT user_id, user_band FROM tbl_user WHERE user_id = :userId FOR UPDATE) previous "
+                + "WHERE u.user_id = previous.user_id" + (version == null ? "" : " AND u.version = :version")
+                + " RETURNING previous.user_band, u.version";
+        DatabaseClient.GenericExecuteSpec update = databaseClient.sql(sql).bind("userId", userModel.getUserId());
+        update = bindNullable(update, "userName", userModel.getUserName());
+        update = bindNullable(update, "userEmail", userModel.getUserEmail());
+        update = bindNullable(update, "userBand", userModel.getUserBand());
+        if (version != null) {
+            update = update.bind("version", version);
+        }
+        return update.map(row -> (UserDetailsUpdate) new UpdatedDetails(row.get(0, String.class), longValue(row, 1))).one();
+    }
+
+    public Mono<List<UserModel>> search(UserSearchCriteria criteria, int page, int size) {
+        Where where = where(criteria);
+        return where.bindTo(databaseClient.sql("SELECT " + USER_COLUMNS + " FROM tbl_user" + where.sql
+                        + " ORDER BY user_id LIMIT " + size + " OFFSET " + (long) page * size))
+                .map(ReactiveUserRepository::toModel)
+                .all()
+                .collectList();
+    }
+
+    public Mono<List<UserSummary>> searchSummaries(UserSearchCriteria criteria, int page, int size) {
+        Where where = where(criteria);
+        return where.bindTo(databaseClient.sql("SELECT user_id, user_name, user_band FROM tbl_user" + where.sql
+                        + " ORDER BY user_id LIMIT " + size + " OFFSET " + (long) page * size))
+                .map(row -> new UserSummary(row.get("user_id", Integer.class), row.get("user_name", String.class),
+                        row.get("user_band", String.class)))
+                .all()
+                .collectList();
+    }
+
+    public Mono<Long> countMatching(UserSearchCriteria criteria) {
+        Where where = where(criteria);
+        return where.bindTo(databaseClient.sql("SELECT count(*) FROM tbl_user" + where.sql))
+                .map(row -> longValue(row, 0))
+                .one();
+    }
+
+    /**
+     * Sequence of the oldest retained change, empty if the log is empty.
+     */
+    public Mono<Long> findOldestChangeSeq() {
+        return databaseClient.sql("SELECT min(change_seq) FROM tbl_user_change")
+                .map(row -> row.get(0) == null ? 0L : longValue(row, 0))
+                .one()
+                .filter(changeSeq -> changeSeq > 0);
+    }
+
+    public Mono<Long> findNewestChangeSeq() {
+        return databaseClient.sql("SELECT coalesce(max(change_seq), 0) FROM tbl_user_change")
+                .map(row -> longValue(row, 0))
+                .one();
+    }
+
+    public Flux<UserChange> findChangesAfter(long since) {
+        return databaseClient.sql("SELECT change_seq, operation, user_id, user_name, user_email, user_band, version, changed_at "
+                        + "FROM tbl_user_change WHERE change_seq > :since ORDER BY change_seq")
+                .bind("since", since)
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(ReactiveUserRepository::toChange)
+                .all();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static UserModel toModel(Readable row) {
+        return new UserModel(row.get("user_id", Integer.class), row.get("user_name", String.class),
+                row.get("user_email", String.class), row.get("user_band", String.class), longValue(row, "version"));
+    }
+
+    private static UserChange toChange(Readable row) {
+        UserChange.Operation operation = UserChange.Operation.valueOf(row.get("operation", String.class));
+        int userId = row.get("user_id", Integer.class);
+        UserModel afterImage = operation == UserChange.Operation.DELETE ? null : new UserModel(userId,
+                row.get("user_name", String.class), row.get("user_email", String.class),
+                row.get("user_band", String.class), longValue(row, "version"));
+        return UserChange.builder()
+                .changeSeq(longValue(row, "change_seq"))
+                .operation(operation)
+                .userId(userId)
+                .user(afterImage)
+                .changedAt(row.get("changed_at", Instant.class))
+                .build();
+    }
+
+    private record UpdatedDetails(String previousBand, long version) implements UserDetailsUpdate {
+        @Override
+        public String getPreviousBand() {
+            return previousBand;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * Aggregates come back as {@code int}, {@code bigint} or {@code numeric} depending on the
+     * column and the database, so read them as any number.
+     */
+    private static long longValue(Readable row, int index) {
+        return ((Number) row.get(index)).longValue();
+    }
+
+    private static Long longValue(Readable row, String column) {
+        Number value = (Number) row.get(column);
+        return value == null ? null : value.longValue();
+    }
+
+    private static void bindNullable(Statement statement, int index, String value) {
+        if (value == null) {
+            statement.bindNull(index, String.class);
+        } else {
+            statement.bind(index, value);
+        }
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+        return value == null ? spec.bindNull(name, String.class) : spec.bind(name, value);
+    }
+
+    /**
+     * Same predicates as {@link UserSearchRepositoryImpl}, as SQL with named parameters.
+     */
+    private static Where where(UserSearchCriteria criteria) {
+        List<String> predicates = new ArrayList<>(4);
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (StringUtils.hasText(criteria.band())) {
+            predicates.add("user_band = :band");
+            parameters.put("band", criteria.band());
+        }
+        if (StringUtils.hasText(criteria.namePrefix())) {
+            predicates.add("lower(user_name) LIKE :namePrefix ESCAPE '\\'");
+            parameters.put("namePrefix", UserSearchRepositoryImpl.escapeLike(criteria.namePrefix()) + "%");
+        }
+        if (StringUtils.hasText(criteria.nameContains())) {
+            predicates.add("lower(user_name) LIKE :nameContains ESCAPE '\\'");
+            parameters.put("nameContains", "%" + UserSearchRepositoryImpl.escapeLike(criteria.nameContains()) + "%");
+        }
+        if (StringUtils.hasText(criteria.emailDomain())) {
+            String domain = criteria.emailDomain().startsWith("@") ? criteria.emailDomain().substring(1) : criteria.emailDomain();
+            predicates.add("lower(user_email) LIKE :emailDomain ESCAPE '\\'");
+            parameters.put("emailDomain", "%@" + UserSearchRepositoryImpl.escapeLike(domain));
+        }
+        return new Where(predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates), parameters);
+    }
+
+    private record Where(String sql, Map<String, String> parameters) {
+        private DatabaseClient.GenericExecuteSpec bindTo(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+                spec = spec.bind(parameter.getKey(), parameter.getValue());
+            }
+            return spec;
+        }
+    }
+}
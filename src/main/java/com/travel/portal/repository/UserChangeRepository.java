@@ -0,0 +1,65 @@
+package com.travel.portal.repository;
+
+import com.travel.portal.entity.UserChangeEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface UserChangeRepository extends JpaRepository<UserChangeEntity, Long> {
+    /**
+     * Changes after {@code changeSeq} in feed order, read through a database cursor. Must be
+     * consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = UserRepository.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserChangeEntity> streamByChangeSeqGreaterThanOrderByChangeSeqAsc(long changeSeq);
+
+    @Query("select min(c.changeSeq) from UserChangeEntity c")
+    Optional<Long> findOldestChangeSeq();
+
+    @Query("select max(c.changeSeq) from UserChangeEntity c")
+    Optional<Long> findNewestChangeSeq();
+
+    /**
+     * Claims the right to sequence changes until the calling transaction ends, so that only one
+     * instance sequences at a time.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('tbl_user_change'))", nativeQuery = true)
+    boolean tryLockSequencing();
+
+    /**
+     * Gives every committed change without a {@code changeSeq} the next one, in {@code changeId}
+     * order. Must run in a transaction holding {@link #tryLockSequencing}.
+     *
+     * @return the number of changes sequenced
+     */
+    @Modifying
+    @Query(value = "UPDATE tbl_user_change c SET change_seq = s.change_seq "
+            + "FROM (SELECT change_id, nextval('tbl_user_change_seq') AS change_seq FROM ("
+            + "SELECT change_id FROM tbl_user_change WHERE change_seq IS NULL ORDER BY change_id) pending) s "
+            + "WHERE c.change_id = s.change_id", nativeQuery = true)
+    int assignChangeSeqs();
+
+    /**
+     * Prunes changes up to the newest one made before {@code cutoff}, always keeping the newest
+     * change so that {@link #findOldestChangeSeq} can still tell consumers whether they fell behind.
+     * {@code changedAt} is the writing transaction's start time, which does not rise with
+     * {@code changeSeq}, so the cut is made by sequence: the retained changes never have a gap.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from UserChangeEntity c "
+            + "where c.changeSeq <= (select max(o.changeSeq) from UserChangeEntity o where o.changedAt < :cutoff) "
+            + "and c.changeSeq < (select max(m.changeSeq) from UserChangeEntity m)")
+    int deleteChangesBefore(Instant cutoff);
+}
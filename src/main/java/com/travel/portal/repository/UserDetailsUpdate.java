@@ -0,0 +1,11 @@
+package com.travel.portal.repository;
+
+/**
+ * What an in-place update of a user's details reports back: the band it replaced, for the band
+ * counts, and the version it moved the row to, for the response's ETag.
+ */
+public interface UserDetailsUpdate {
+    String getPreviousBand();
+
+    long getVersion();
+}
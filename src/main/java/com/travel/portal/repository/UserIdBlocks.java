@@ -0,0 +1,59 @@
+package com.travel.portal.repository;
+
+import com.travel.portal.entity.UserEntity;
+
+import java.util.List;
+
+/**
+ * User IDs behind {@code tbl_user_seq} values, read the way Hibernate's pooled optimizer reads
+ * them: each value is the last ID of a block of {@link UserEntity#ID_BLOCK_SIZE} IDs. Blocks never
+ * reach below ID 1, so a value below the block size stands for a shorter block; callers that
+ * insert users without Hibernate must draw again until they have enough IDs.
+ * <p>
+ * An instance hands out IDs like the pooled optimizer does for one writer: it keeps the unused
+ * end of the last block drawn, so inserting a few users at a time does not cost a sequence value
+ * each.
+ */
+public final class UserIdBlocks {
+    private long nextUserId = 1;
+    private long lastUserIdInBlock;
+
+    /**
+     * First ID of the block ending at {@code sequenceValue}.
+     */
+    public static long firstUserId(long sequenceValue) {
+        return Math.max(1, sequenceValue - UserEntity.ID_BLOCK_SIZE + 1);
+    }
+
+    /**
+     * Moves IDs from the kept block into {@code userIds} until it holds {@code count}.
+     */
+    public synchronized void take(List<Integer> userIds, int count) {
+        while (userIds.size() < count && nextUserId <= lastUserIdInBlock) {
+            userIds.add((int) nextUserId++);
+        }
+    }
+
+    /**
+     * Moves IDs from the block ending at {@code sequenceValue} into {@code userIds} until it holds
+     * {@code count}. The rest of the block is kept unless a concurrent caller already keeps a
+     * fresh one, in which case it is left unused.
+     */
+    public synchronized void add(List<Integer> userIds, int count, long sequenceValue) {
+        long userId = firstUserId(sequenceValue);
+        while (userIds.size() < count && userId <= sequenceValue) {
+            userIds.add((int) userId++);
+        }
+        if (userId <= sequenceValue && nextUserId > lastUserIdInBlock) {
+            nextUserId = userId;
+            lastUserIdInBlock = sequenceValue;
+        }
+    }
+
+    /**
+     * Sequence values to draw for {@code userIds} more IDs when every block is full.
+     */
+    public static int blocksFor(long userIds) {
+        return (int) ((userIds + UserEntity.ID_BLOCK_SIZE - 1) / UserEntity.ID_BLOCK_SIZE);
+    }
+}
@@ -1,7 +1,106 @@
 package com.travel.portal.repository;
 
 import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserBandCount;
+import com.travel.portal.model.UserCollectionVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface UserRepository extends JpaRepository<UserEntity, Integer> {
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface UserRepository extends JpaRepository<UserEntity, Integer>, UserSearchRepository {
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Keyset page: the users that come after {@code userId}, in ID order.
+     */
+    List<UserEntity> findByUserIdGreaterThanOrderByUserIdAsc(int userId, Limit limit);
+
+    /**
+     * Every user in ID order, for the full listing. Deliberately not query cached: the listing is
+     * as large as the table, and a node-local cache entry would not see writes from other nodes.
+     * The rows bypass the second-level cache as well, so a listing does not evict the hot entries
+     * from the {@code users} region.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    List<UserEntity> findAllByOrderByUserIdAsc();
+
+    /**
+     * Case-insensitive email lookup, served by the unique index on {@code lower(userEmail)}.
+     */
+    @Query("select u from UserEntity u where lower(u.userEmail) = lower(:userEmail)")
+    Optional<UserEntity> findByUserEmail(String userEmail);
+
+    /**
+     * Streams every user through a forward-only cursor. Must be consumed inside a
+     * transaction (Postgres only honours the fetch size with auto-commit off) and closed
+     * afterwards; callers should detach each entity so the persistence context stays small.
+     * Scans and exports skip the second-level cache, which would otherwise fill the {@code users}
+     * region with every row and push out the entries that lookups actually reuse.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select u from UserEntity u order by u.userId")
+    Stream<UserEntity> streamAllByOrderByUserIdAsc();
+
+    /**
+     * Deletes a user and returns the deleted row in the same statement.
+     */
+    @Transactional
+    @Query(value = "DELETE FROM tbl_user WHERE user_id = :userId RETURNING *", nativeQuery = true)
+    Optional<UserEntity> deleteReturningById(int userId);
+
+    /**
+     * Overwrites a user's details in a single UPDATE without loading the entity first. The row is
+     * locked before it is read, so the band returned is the one this update replaced.
+     *
+     * @return the user's previous band (which may be {@code null}) and new version, or an empty
+     * list when the user does not exist
+     */
+    @Transactional
+    @Query(value = "UPDATE tbl_user u SET user_name = :userName, user_email = :userEmail, user_band = :userBand, "
+            + "version = u.version + 1 "
+            + "FROM (SELECT user_id, user_band FROM tbl_user WHERE user_id = :userId FOR UPDATE) previous "
+            + "WHERE u.user_id = previous.user_id "
+            + "RETURNING previous.user_band AS \"previousBand\", u.version AS \"version\"", nativeQuery = true)
+    List<UserDetailsUpdate> updateUserDetails(int userId, String userName, String userEmail, String userBand);
+
+    /**
+     * Like {@link #updateUserDetails}, but only if the row is still at {@code version}.
+     *
+     * @return the user's previous band and new version, or an empty list when the user does not
+     * exist or has moved on
+     */
+    @Transactional
+    @Query(value = "UPDATE tbl_user u SET user_name = :userName, user_email = :userEmail, user_band = :userBand, "
+            + "version = u.version + 1 "
+            + "FROM (SELECT user_id, user_band FROM tbl_user WHERE user_id = :userId FOR UPDATE) previous "
+            + "WHERE u.user_id = previous.user_id AND u.version = :version "
+            + "RETURNING previous.user_band AS \"previousBand\", u.version AS \"version\"", nativeQuery = true)
+    List<UserDetailsUpdate> updateUserDetailsIfVersion(int userId, String userName, String userEmail,
+                                                       String userBand, long version);
+
+    /**
+     * Users per band, for reconciling the in-memory band counts.
+     */
+    @Query("select new com.travel.portal.model.UserBandCount(u.userBand, count(u)) from UserEntity u group by u.userBand")
+    List<UserBandCount> countUsersByBand();
+
+    /**
+     * Not query cached: the version decides whether a client may keep its copy of the list, so it
+     * must see writes made by other nodes and outside the API straight away.
+     */
+    @Query("select new com.travel.portal.model.UserCollectionVersion(count(u), coalesce(max(u.userId), 0), "
+            + "coalesce(sum(u.userId), 0), coalesce(sum(u.version), 0)) from UserEntity u")
+    UserCollectionVersion findCollectionVersion();
 }
@@ -0,0 +1,20 @@
+package com.travel.portal.repository;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserSearchCriteria;
+import com.travel.portal.model.UserSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Dynamic user search. Only the filters that are set end up in the SQL, so Postgres can use
+ * the matching index instead of planning around {@code :param is null} branches.
+ */
+public interface UserSearchRepository {
+    Page<UserEntity> search(UserSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Same search, selecting only the summary columns instead of hydrating entities.
+     */
+    Page<UserSummary> searchSummaries(UserSearchCriteria criteria, Pageable pageable);
+}
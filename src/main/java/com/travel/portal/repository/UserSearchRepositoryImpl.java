@@ -0,0 +1,108 @@
+package com.travel.portal.repository;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserSearchCriteria;
+import com.travel.portal.model.UserSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Transactional(readOnly = true)
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<UserEntity> search(UserSearchCriteria criteria, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserEntity> query = criteriaBuilder.createQuery(UserEntity.class);
+        Root<UserEntity> user = query.from(UserEntity.class);
+        query.select(user)
+                .where(predicates(criteriaBuilder, user, criteria))
+                .orderBy(criteriaBuilder.asc(user.get("userId")));
+        List<UserEntity> content = cacheable(entityManager.createQuery(query))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(criteria));
+    }
+
+    @Override
+    public Page<UserSummary> searchSummaries(UserSearchCriteria criteria, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserSummary> query = criteriaBuilder.createQuery(UserSummary.class);
+        Root<UserEntity> user = query.from(UserEntity.class);
+        query.select(criteriaBuilder.construct(UserSummary.class,
+                        user.get("userId"), user.get("userName"), user.get("userBand")))
+                .where(predicates(criteriaBuilder, user, criteria))
+                .orderBy(criteriaBuilder.asc(user.get("userId")));
+        List<UserSummary> content = cacheable(entityManager.createQuery(query))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(criteria));
+    }
+
+    private long count(UserSearchCriteria criteria) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<UserEntity> user = query.from(UserEntity.class);
+        query.select(criteriaBuilder.count(user)).where(predicates(criteriaBuilder, user, criteria));
+        return cacheable(entityManager.createQuery(query)).getSingleResult();
+    }
+
+    private static <T> TypedQuery<T> cacheable(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, UserEntity.QUERY_CACHE_REGION);
+    }
+
+    private static Predicate[] predicates(CriteriaBuilder criteriaBuilder, Root<UserEntity> user, UserSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>(4);
+        if (StringUtils.hasText(criteria.band())) {
+            predicates.add(criteriaBuilder.equal(user.get("userBand"), criteria.band()));
+        }
+        Expression<String> userName = criteriaBuilder.lower(user.get("userName"));
+        if (StringUtils.hasText(criteria.namePrefix())) {
+            predicates.add(criteriaBuilder.like(userName, escapeLike(criteria.namePrefix()) + "%", LIKE_ESCAPE));
+        }
+        if (StringUtils.hasText(criteria.nameContains())) {
+            predicates.add(criteriaBuilder.like(userName, "%" + escapeLike(criteria.nameContains()) + "%", LIKE_ESCAPE));
+        }
+        if (StringUtils.hasText(criteria.emailDomain())) {
+            String domain = criteria.emailDomain().startsWith("@") ? criteria.emailDomain().substring(1) : criteria.emailDomain();
+            predicates.add(criteriaBuilder.like(criteriaBuilder.lower(user.get("userEmail")), "%@" + escapeLike(domain), LIKE_ESCAPE));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    /**
+     * Lower-cases user input and escapes LIKE wildcards so it only matches literally.
+     */
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (char c : value.trim().toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,164 @@
+package com.travel.portal.service;
+
+import com.travel.portal.model.UserBandCount;
+import com.travel.portal.model.UserBandSummary;
+import com.travel.portal.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of users per band, kept in memory so the band summary costs the same however many
+ * users there are.
+ * <p>
+ * The counts are loaded with a {@code GROUP BY} at startup and then follow the adds, deletes and
+ * band changes made through this instance. Every {@code portal.bands.reconcile-interval} they are
+ * checked against the database again, which picks up writes made by other instances or outside
+ * the API. A reconciliation corrects each band by how far the database differs from the count as
+ * it stood when the query started, so writes counted while the query runs are not lost.
+ */
+@Service
+public class UserBandAggregates implements MeterBinder {
+    /**
+     * Key under which users without a band are counted.
+     */
+    static final String NO_BAND = "";
+
+    Logger logger = LoggerFactory.getLogger(UserBandAggregates.class);
+    private final UserRepository userRepository;
+    private final TransactionTemplate countTransaction;
+    private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+    private volatile Map<String, AtomicLong> countedDuringScan;
+    private volatile Instant reconciledAt;
+    private Counter corrections;
+
+    public UserBandAggregates(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        // Not read-only, which would route the count to a replica that may not have the writes
+        // already counted here.
+        this.countTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void added(String userBand) {
+        adjust(userBand, 1);
+    }
+
+    public void added(String userBand, long userCount) {
+        adjust(userBand, userCount);
+    }
+
+    public void removed(String userBand) {
+        adjust(userBand, -1);
+    }
+
+    public void moved(String previousBand, String userBand) {
+        if (!Objects.equals(previousBand, userBand)) {
+            adjust(previousBand, -1);
+            adjust(userBand, 1);
+        }
+    }
+
+    public UserBandSummary summary() {
+        Map<String, Long> bands = new TreeMap<>();
+        long totalUsers = 0;
+        for (Map.Entry<String, AtomicLong> entry : counts.entrySet()) {
+            long userCount = entry.getValue().get();
+            if (userCount > 0) {
+                bands.put(entry.getKey(), userCount);
+                totalUsers += userCount;
+            }
+        }
+        return UserBandSummary.builder()
+                .bands(bands)
+                .totalUsers(totalUsers)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+        UserBandSummary summary = summary();
+        logger.info("Band counts loaded for {} users in {} bands", summary.getTotalUsers(), summary.getBands().size());
+    }
+
+    @Scheduled(fixedDelayString = "${portal.bands.reconcile-interval}", initialDelayString = "${portal.bands.reconcile-interval}")
+    public synchronized void reconcile() {
+        boolean firstLoad = reconciledAt == null;
+        Map<String, AtomicLong> countedDuringScan = new ConcurrentHashMap<>();
+        this.countedDuringScan = countedDuringScan;
+        long drift = 0;
+        try {
+            Map<String, Long> stored = new HashMap<>();
+            List<UserBandCount> bandCounts = countTransaction.execute(status -> userRepository.countUsersByBand());
+            for (UserBandCount bandCount : bandCounts) {
+                stored.merge(key(bandCount.userBand()), bandCount.userCount(), Long::sum);
+            }
+            Set<String> bands = new HashSet<>(stored.keySet());
+            bands.addAll(counts.keySet());
+            for (String band : bands) {
+                AtomicLong count = counter(band);
+                AtomicLong sinceScanStarted = countedDuringScan.get(band);
+                long atScanStart = count.get() - (sinceScanStarted == null ? 0 : sinceScanStarted.get());
+                long correction = stored.getOrDefault(band, 0L) - atScanStart;
+                if (correction != 0) {
+                    count.addAndGet(correction);
+                    drift += Math.abs(correction);
+                }
+            }
+            reconciledAt = Instant.now();
+        } finally {
+            this.countedDuringScan = null;
+        }
+        if (!firstLoad && drift > 0) {
+            logger.info("Band counts corrected by {} after reconciling with the database", drift);
+            if (corrections != null) {
+                corrections.increment(drift);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.corrections = Counter.builder("portal.bands.corrections")
+                .description("Band count changes made by reconciling with the database")
+                .register(registry);
+    }
+
+    private void adjust(String userBand, long delta) {
+        String band = key(userBand);
+        Map<String, AtomicLong> scan = countedDuringScan;
+        if (scan != null) {
+            scan.computeIfAbsent(band, ignored -> new AtomicLong()).addAndGet(delta);
+        }
+        counter(band).addAndGet(delta);
+    }
+
+    private AtomicLong counter(String band) {
+        AtomicLong count = counts.get(band);
+        return count != null ? count : counts.computeIfAbsent(band, ignored -> new AtomicLong());
+    }
+
+    private static String key(String userBand) {
+        return userBand == null ? NO_BAND : userBand;
+    }
+}
@@ -0,0 +1,156 @@
+package com.travel.portal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.portal.constant.ApiConstants;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.exception.ConstraintViolations;
+import com.travel.portal.mapper.UserMapper;
+import com.travel.portal.model.UserBatchItemResult;
+import com.travel.portal.model.UserModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inserts users in bulk. The request body is read incrementally and written in chunks, one
+ * transaction per chunk, so Hibernate can send JDBC batches and take IDs from the pooled
+ * sequence block instead of making a round trip per row.
+ * <p>
+ * Every item's result is kept until the response is written, so a request is cut off after
+ * {@link ApiConstants#USER_BATCH_MAX_ITEMS} items; larger loads belong in {@link UserImportService},
+ * whose memory use does not grow with the upload.
+ */
+@Service
+public class UserBatchService {
+    /**
+     * Error reported for the first item past {@link ApiConstants#USER_BATCH_MAX_ITEMS}.
+     */
+    public static final String ITEM_LIMIT_EXCEEDED = "Bulk requests are limited to " + ApiConstants.USER_BATCH_MAX_ITEMS
+            + " items; this and later items were not read";
+
+    Logger logger = LoggerFactory.getLogger(UserBatchService.class);
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserBatchService(EntityManager entityManager,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Reads a JSON array or an NDJSON stream of users and stores every valid one.
+     * Results come back in request order, one per item read. Items past
+     * {@link ApiConstants#USER_BATCH_MAX_ITEMS} are not read; the first of them is reported as
+     * invalid.
+     */
+    public List<UserBatchItemResult> addUsers(InputStream inputStream) throws IOException {
+        List<UserBatchItemResult> results = new ArrayList<>();
+        List<PendingUser> chunk = new ArrayList<>(ApiConstants.USER_BATCH_CHUNK_SIZE);
+        int index = 0;
+        try (MappingIterator<UserModel> users = objectMapper.readerFor(UserModel.class).readValues(inputStream)) {
+            while (users.hasNextValue()) {
+                if (index == ApiConstants.USER_BATCH_MAX_ITEMS) {
+                    logger.warn("Bulk user request cut off after {} items", index);
+                    results.add(UserBatchItemResult.builder()
+                            .index(index)
+                            .status(UserBatchItemResult.Status.INVALID)
+                            .errors(List.of(ITEM_LIMIT_EXCEEDED))
+                            .build());
+                    break;
+                }
+                UserModel userModel = users.nextValue();
+                Set<ConstraintViolation<UserModel>> violations = validator.validate(userModel);
+                if (violations.isEmpty()) {
+                    chunk.add(new PendingUser(index, userModel));
+                } else {
+                    results.add(UserBatchItemResult.builder()
+                            .index(index)
+                            .status(UserBatchItemResult.Status.INVALID)
+                            .errors(violations.stream().map(ConstraintViolation::getMessage).sorted().toList())
+                            .build());
+                }
+                index++;
+                if (chunk.size() == ApiConstants.USER_BATCH_CHUNK_SIZE) {
+                    results.addAll(persistChunk(chunk));
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            logger.warn("Bulk user request stopped at item {}: {}", index, e.getMessage());
+            results.add(UserBatchItemResult.builder()
+                    .index(index)
+                    .status(UserBatchItemResult.Status.INVALID)
+                    .errors(List.of("Unreadable item: " + e.getOriginalMessage()))
+                    .build());
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(persistChunk(chunk));
+        }
+        results.sort(Comparator.comparingInt(UserBatchItemResult::getIndex));
+        return results;
+    }
+
+    /**
+     * Stores a chunk in one transaction. If the chunk is rejected, its items are retried one
+     * at a time so a single bad row only fails itself.
+     */
+    private List<UserBatchItemResult> persistChunk(List<PendingUser> chunk) {
+        try {
+            List<UserEntity> savedUsers = transactionTemplate.execute(status -> {
+                List<UserEntity> entities = chunk.stream().map(pending -> UserMapper.toNewEntity(pending.userModel())).toList();
+                entities.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+                return entities;
+            });
+            List<UserBatchItemResult> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(UserBatchItemResult.builder()
+                        .index(chunk.get(i).index())
+                        .status(UserBatchItemResult.Status.CREATED)
+                        .user(UserMapper.toModel(savedUsers.get(i)))
+                        .build());
+            }
+            return results;
+        } catch (PersistenceException | DataAccessException e) {
+            if (chunk.size() == 1) {
+                return List.of(UserBatchItemResult.builder()
+                        .index(chunk.getFirst().index())
+                        .status(UserBatchItemResult.Status.FAILED)
+                        .errors(List.of(ConstraintViolations.isDuplicateEmail(e)
+                                ? "User already exists with given email"
+                                : e.getMessage()))
+                        .build());
+            }
+            logger.warn("Bulk user chunk of {} rejected, retrying items individually: {}", chunk.size(), e.getMessage());
+            return chunk.stream().flatMap(pending -> persistChunk(List.of(pending)).stream()).toList();
+        }
+    }
+
+    private record PendingUser(int index, UserModel userModel) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.travel.portal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.portal.entity.UserChangeEntity;
+import com.travel.portal.exception.exceptionDetails.ChangesPrunedException;
+import com.travel.portal.mapper.UserMapper;
+import com.travel.portal.model.UserCollectionVersion;
+import com.travel.portal.model.UserListSnapshot;
+import com.travel.portal.repository.UserChangeRepository;
+import com.travel.portal.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serves the user change log as an NDJSON feed and prunes it after
+ * {@code portal.changes.retention}.
+ * <p>
+ * The {@code tbl_user} trigger records changes without a sequence number, so writers never
+ * wait on each other. Every {@code portal.changes.sequence-interval} one instance numbers the
+ * changes committed since the last run; numbers are handed out after commit, so changes become
+ * visible in sequence order and a consumer that resumes from the last sequence it saw never
+ * skips one.
+ */
+@Service
+public class UserChangeFeedService {
+    private static final int FLUSH_INTERVAL = 500;
+
+    Logger logger = LoggerFactory.getLogger(UserChangeFeedService.class);
+    private final UserChangeRepository userChangeRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate listingTransaction;
+    private final TransactionTemplate sequencingTransaction;
+    private final Duration retention;
+
+    public UserChangeFeedService(UserChangeRepository userChangeRepository,
+                                 UserRepository userRepository,
+                                 EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${portal.changes.retention:7d}") Duration retention) {
+        this.userChangeRepository = userChangeRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // One database snapshot for every statement, so the version and the feed position match the list.
+        this.listingTransaction = new TransactionTemplate(transactionManager);
+        this.listingTransaction.setReadOnly(true);
+        this.listingTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.sequencingTransaction = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+    }
+
+    /**
+     * Every user together with the collection version and the feed position to follow later
+     * changes from (0 if there is no change yet). All three are read past the query cache from one
+     * repeatable-read snapshot; a change is only sequenced after it commits, so the list already
+     * includes every change up to that position.
+     */
+    public UserListSnapshot findAllUsersWithChangeSeq() {
+        return listingTransaction.execute(status -> {
+            UserCollectionVersion collectionVersion = userRepository.findCollectionVersion();
+            long changeSeq = userChangeRepository.findNewestChangeSeq().orElse(0L);
+            return new UserListSnapshot(collectionVersion, changeSeq, userRepository.findAllByOrderByUserIdAsc());
+        });
+    }
+
+    /**
+     * Fails if changes right after {@code since} have already been pruned, since the feed
+     * could then not bring the consumer up to date.
+     */
+    public void checkRetained(long since) {
+        if (since <= 0) {
+            return;
+        }
+        userChangeRepository.findOldestChangeSeq()
+                .filter(oldest -> since < oldest - 1)
+                .ifPresent(oldest -> {
+                    throw new ChangesPrunedException(since);
+                });
+    }
+
+    /**
+     * Writes every change after {@code since}, one JSON object per line.
+     */
+    public void writeNdjson(long since, OutputStream outputStream) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserChangeEntity> changes = userChangeRepository.streamByChangeSeqGreaterThanOrderByChangeSeqAsc(since);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                int written = 0;
+                Iterator<UserChangeEntity> iterator = changes.iterator();
+                while (iterator.hasNext()) {
+                    UserChangeEntity change = iterator.next();
+                    generator.writeObject(UserMapper.toChange(change));
+                    generator.writeRaw('\n');
+                    entityManager.detach(change);
+                    if (++written % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${portal.changes.sequence-interval:1s}")
+    public void sequence() {
+        Integer sequenced = sequencingTransaction.execute(status ->
+                userChangeRepository.tryLockSequencing() ? userChangeRepository.assignChangeSeqs() : 0);
+        if (sequenced != null && sequenced > 0) {
+            logger.debug("Sequenced {} user changes", sequenced);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${portal.changes.prune-interval:1h}", initialDelayString = "${portal.changes.prune-interval:1h}")
+    public void prune() {
+        int pruned = userChangeRepository.deleteChangesBefore(Instant.now().minus(retention));
+        logger.debug("Pruned {} user changes older than {}", pruned, retention);
+    }
+}
@@ -0,0 +1,39 @@
+package com.travel.portal.service;
+
+import com.travel.portal.exception.exceptionDetails.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the keyset position of a user page into an opaque continuation token.
+ * Clients must treat the token as a black box; only this class knows its layout.
+ */
+public class UserCursorCodec {
+    private static final String PREFIX = "u:";
+
+    private UserCursorCodec() {}
+
+    public static String encode(int lastUserId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastUserId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the user ID the next page starts after, or {@code 0} when no cursor is given.
+     */
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new InvalidCursorException(cursor);
+            }
+            return Integer.parseInt(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
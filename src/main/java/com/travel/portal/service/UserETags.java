@@ -0,0 +1,26 @@
+package com.travel.portal.service;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserCollectionVersion;
+
+/**
+ * Strong entity tags derived from row versions, so computing one never needs the response body.
+ */
+public class UserETags {
+    private UserETags() {}
+
+    public static String forUser(UserEntity userEntity) {
+        return forUser(userEntity.getUserId(), userEntity.getVersion());
+    }
+
+    public static String forUser(int userId, long version) {
+        return "\"u" + userId + "-" + version + "\"";
+    }
+
+    public static String forCollection(UserCollectionVersion collectionVersion) {
+        return "\"c" + collectionVersion.userCount()
+                + "-" + collectionVersion.maxUserId()
+                + "-" + Long.toHexString(collectionVersion.userIdSum())
+                + "-" + Long.toHexString(collectionVersion.versionSum()) + "\"";
+    }
+}
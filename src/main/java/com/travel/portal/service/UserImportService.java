@@ -0,0 +1,265 @@
+package com.travel.portal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserBatchItemResult;
+import com.travel.portal.model.UserImportReport;
+import com.travel.portal.model.UserModel;
+import com.travel.portal.repository.UserIdBlocks;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Loads users from a CSV or NDJSON upload with Postgres {@code COPY}.
+ * <p>
+ * The upload is parsed one row at a time and each row that passes the {@code UserModel}
+ * constraints is copied into a temporary staging table as soon as it is read. A single INSERT
+ * then moves the staged rows into {@code tbl_user}, skipping emails that are already taken,
+ * including by an earlier row of the same upload. IDs come from {@code tbl_user_seq} in blocks of
+ * {@link UserEntity#ID_BLOCK_SIZE}, the way Hibernate draws them, so each sequence value serves
+ * a whole block of rows rather than one. Everything happens in one transaction, and memory use
+ * does not depend on the size of the upload: only the first
+ * {@code portal.import.max-reported-errors} rejected rows are kept for the report.
+ */
+@Service
+public class UserImportService {
+    /**
+     * Reads CSV with a header row. Columns other than the {@code UserModel} fields are ignored and
+     * empty values are read as missing, so they fail validation like absent JSON fields.
+     */
+    static final ObjectReader CSV_USERS = new CsvMapper()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .readerFor(UserModel.class)
+            .with(CsvSchema.emptySchema().withHeader())
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final String DUPLICATE_EMAIL = "User already exists with given email";
+    private static final String CREATE_STAGING_TABLE = "CREATE TEMP TABLE user_import "
+            + "(row_index int, user_name text, user_email text, user_band text) ON COMMIT DROP";
+    private static final String CREATE_IMPORTED_TABLE = "CREATE TEMP TABLE user_imported "
+            + "(row_index int, user_band text) ON COMMIT DROP";
+    private static final String COPY_INTO_STAGING_TABLE = "COPY user_import FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_STAGED_USERS = "WITH candidates AS ("
+            + "SELECT DISTINCT ON (lower(user_email)) row_index, user_name, user_email, user_band FROM user_import "
+            + "ORDER BY lower(user_email), row_index), "
+            + "numbered AS (SELECT row_number() OVER (ORDER BY row_index) AS n, * FROM candidates), "
+            + "user_ids AS (SELECT row_number() OVER (ORDER BY user_id) AS n, user_id FROM ("
+            + "SELECT generate_series(b.first_id, b.last_id) AS user_id FROM unnest(?, ?) AS b(first_id, last_id)) ids), "
+            + "inserted AS (INSERT INTO tbl_user (user_id, user_name, user_email, user_band, version) "
+            + "SELECT i.user_id, c.user_name, c.user_email, c.user_band, 0 "
+            + "FROM numbered c JOIN user_ids i ON i.n = c.n "
+            + "ON CONFLICT DO NOTHING RETURNING user_email) "
+            + "INSERT INTO user_imported SELECT c.row_index, c.user_band FROM inserted i "
+            + "JOIN candidates c ON lower(c.user_email) = lower(i.user_email)";
+    private static final String COUNT_CANDIDATES = "SELECT count(DISTINCT lower(user_email)) FROM user_import";
+    private static final String DRAW_ID_BLOCKS = "SELECT nextval('tbl_user_seq') FROM generate_series(1, ?)";
+    private static final String COUNT_IMPORTED_BY_BAND = "SELECT user_band, count(*) FROM user_imported GROUP BY user_band";
+    private static final String SELECT_SKIPPED_ROWS = "SELECT s.row_index FROM user_import s "
+            + "WHERE NOT EXISTS (SELECT 1 FROM user_imported i WHERE i.row_index = s.row_index) "
+            + "ORDER BY s.row_index LIMIT ?";
+
+    Logger logger = LoggerFactory.getLogger(UserImportService.class);
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxReportedErrors;
+
+    public UserImportService(EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${portal.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public UserImportReport importCsv(InputStream inputStream) throws IOException {
+        return importUsers(CSV_USERS.readValues(inputStream));
+    }
+
+    public UserImportReport importNdjson(InputStream inputStream) throws IOException {
+        return importUsers(objectMapper.readerFor(UserModel.class).readValues(inputStream));
+    }
+
+    private UserImportReport importUsers(MappingIterator<UserModel> users) throws IOException {
+        try (users) {
+            UserImportReport report = transactionTemplate.execute(status -> entityManager.unwrap(Session.class)
+                    .doReturningWork(connection -> load(connection, users)));
+            logger.info("User import created {} users and rejected {} rows", report.getImportedCount(), report.getRejectedCount());
+            return report;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private UserImportReport load(Connection connection, MappingIterator<UserModel> users) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING_TABLE);
+            statement.execute(CREATE_IMPORTED_TABLE);
+        }
+        List<UserBatchItemResult> errors = new ArrayList<>();
+        long invalidCount = 0;
+        long stagedCount;
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_INTO_STAGING_TABLE, COPY_BUFFER_SIZE);
+        try (Writer writer = new OutputStreamWriter(copy, StandardCharsets.UTF_8)) {
+            int index = 0;
+            try {
+                while (users.hasNextValue()) {
+                    UserModel userModel = users.nextValue();
+                    Set<ConstraintViolation<UserModel>> violations = validator.validate(userModel);
+                    if (violations.isEmpty()) {
+                        writeStagingRow(writer, index, userModel);
+                    } else {
+                        invalidCount++;
+                        report(errors, index, UserBatchItemResult.Status.INVALID,
+                                violations.stream().map(ConstraintViolation::getMessage).sorted().toList());
+                    }
+                    index++;
+                }
+            } catch (JsonProcessingException e) {
+                logger.warn("User import stopped at row {}: {}", index, e.getMessage());
+                invalidCount++;
+                report(errors, index, UserBatchItemResult.Status.INVALID, List.of("Unreadable item: " + e.getOriginalMessage()));
+            }
+            writer.flush();
+            stagedCount = copy.endCopy();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long importedCount;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_STAGED_USERS)) {
+            List<Long> firstIds = new ArrayList<>();
+            List<Long> lastIds = new ArrayList<>();
+            drawIdBlocks(connection, countCandidates(connection), firstIds, lastIds);
+            insert.setArray(1, connection.createArrayOf("bigint", firstIds.toArray()));
+            insert.setArray(2, connection.createArrayOf("bigint", lastIds.toArray()));
+            importedCount = insert.executeUpdate();
+        }
+        Map<String, Long> importedByBand = new TreeMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(COUNT_IMPORTED_BY_BAND)) {
+            while (rows.next()) {
+                importedByBand.put(rows.getString(1), rows.getLong(2));
+            }
+        }
+        long skippedCount = stagedCount - importedCount;
+        if (skippedCount > 0) {
+            try (PreparedStatement select = connection.prepareStatement(SELECT_SKIPPED_ROWS)) {
+                select.setInt(1, maxReportedErrors);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        errors.add(UserBatchItemResult.builder()
+                                .index(rows.getInt(1))
+                                .status(UserBatchItemResult.Status.FAILED)
+                                .errors(List.of(DUPLICATE_EMAIL))
+                                .build());
+                    }
+                }
+            }
+        }
+        errors.sort(Comparator.comparingInt(UserBatchItemResult::getIndex));
+        long rejectedCount = invalidCount + skippedCount;
+        List<UserBatchItemResult> reported = errors.size() > maxReportedErrors ? List.copyOf(errors.subList(0, maxReportedErrors)) : errors;
+        return UserImportReport.builder()
+                .importedCount(importedCount)
+                .rejectedCount(rejectedCount)
+                .importedByBand(importedByBand)
+                .errors(reported)
+                .errorsTruncated(rejectedCount > reported.size())
+                .build();
+    }
+
+    private static long countCandidates(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(COUNT_CANDIDATES)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    /**
+     * Draws {@code tbl_user_seq} values until their blocks hold {@code userCount} IDs, one value per
+     * {@link UserEntity#ID_BLOCK_SIZE} users.
+     */
+    private static void drawIdBlocks(Connection connection, long userCount, List<Long> firstIds, List<Long> lastIds) throws SQLException {
+        long drawn = 0;
+        try (PreparedStatement draw = connection.prepareStatement(DRAW_ID_BLOCKS)) {
+            while (drawn < userCount) {
+                draw.setInt(1, UserIdBlocks.blocksFor(userCount - drawn));
+                try (ResultSet rows = draw.executeQuery()) {
+                    while (rows.next()) {
+                        long lastId = rows.getLong(1);
+                        long firstId = UserIdBlocks.firstUserId(lastId);
+                        firstIds.add(firstId);
+                        lastIds.add(lastId);
+                        drawn += lastId - firstId + 1;
+                    }
+                }
+            }
+        }
+    }
+
+    private void report(List<UserBatchItemResult> errors, int index, UserBatchItemResult.Status status, List<String> messages) {
+        if (errors.size() < maxReportedErrors) {
+            errors.add(UserBatchItemResult.builder().index(index).status(status).errors(messages).build());
+        }
+    }
+
+    /**
+     * Writes one staging row in {@code COPY} CSV format, every field quoted.
+     */
+    static void writeStagingRow(Writer writer, int index, UserModel userModel) throws IOException {
+        writer.write(Integer.toString(index));
+        writeField(writer, userModel.getUserName());
+        writeField(writer, userModel.getUserEmail());
+        writeField(writer, userModel.getUserBand());
+        writer.write('\n');
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+        writer.write(",\"");
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,198 @@
+package com.travel.portal.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedOutputStream;
+import com.travel.portal.codec.UserEntityWriter;
+import com.travel.portal.codec.UserProtobufCodec;
+import com.travel.portal.constant.ApiConstants;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes the user table to a response body straight from a database cursor, so memory use
+ * does not depend on how many users there are. Rows are written by {@link UserEntityWriter}
+ * and {@link UserProtobufCodec} without mapping them to {@code UserModel} first.
+ */
+@Service
+public class UserStreamService {
+    private static final int FLUSH_INTERVAL = 500;
+    private static final String EXPORT_CSV = "COPY (SELECT user_id AS \"userId\", user_name AS \"userName\", "
+            + "user_email AS \"userEmail\", user_band AS \"userBand\", version FROM tbl_user ORDER BY user_id) "
+            + "TO STDOUT WITH (FORMAT csv, HEADER)";
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final JsonFactory cborFactory = new CBORFactory();
+    private final JsonFactory smileFactory = new SmileFactory();
+
+    public UserStreamService(UserRepository userRepository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Writes one JSON object per line (NDJSON).
+     */
+    public void writeNdjson(OutputStream outputStream) {
+        writeUsers(outputStream, objectMapper.getFactory(), true);
+    }
+
+    /**
+     * Writes a single JSON array.
+     */
+    public void writeJsonArray(OutputStream outputStream) {
+        writeUsers(outputStream, objectMapper.getFactory(), false);
+    }
+
+    /**
+     * Writes a single CBOR array.
+     */
+    public void writeCborArray(OutputStream outputStream) {
+        writeUsers(outputStream, cborFactory, false);
+    }
+
+    /**
+     * Writes a single Smile array.
+     */
+    public void writeSmileArray(OutputStream outputStream) {
+        writeUsers(outputStream, smileFactory, false);
+    }
+
+    /**
+     * Writes CSV with a header row, using the JSON field names as column names. Postgres
+     * formats the rows itself ({@code COPY ... TO STDOUT}) and they are passed through as they
+     * arrive, without going through Hibernate at all.
+     */
+    public void writeCsv(OutputStream outputStream) {
+        readOnlyTransaction.executeWithoutResult(status -> entityManager.unwrap(Session.class).doWork(connection -> {
+            try {
+                connection.unwrap(PGConnection.class).getCopyAPI().copyOut(EXPORT_CSV, outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    /**
+     * Writes one length-prefixed protobuf {@code User} per row (see {@code proto/user.proto}).
+     */
+    public void writeProtobufDelimited(OutputStream outputStream) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserEntity> users = userRepository.streamAllByOrderByUserIdAsc()) {
+                CodedOutputStream output = CodedOutputStream.newInstance(outputStream);
+                int written = 0;
+                Iterator<UserEntity> iterator = users.iterator();
+                while (iterator.hasNext()) {
+                    UserEntity userEntity = iterator.next();
+                    UserProtobufCodec.writeDelimitedUser(userEntity, output);
+                    entityManager.detach(userEntity);
+                    if (++written % FLUSH_INTERVAL == 0) {
+                        output.flush();
+                        outputStream.flush();
+                    }
+                }
+                output.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Writes the given users as {@code {"users": [...], "missingIds": [...]}}, loading them in
+     * chunks of {@link ApiConstants#USER_MULTI_GET_CHUNK_SIZE} and flushing after each chunk.
+     * Users keep the order of {@code userIds}, which must not contain duplicates.
+     */
+    public void writeUsersByIds(List<Integer> userIds, OutputStream outputStream) {
+        List<Integer> missingIds = new ArrayList<>();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("users");
+            for (int from = 0; from < userIds.size(); from += ApiConstants.USER_MULTI_GET_CHUNK_SIZE) {
+                List<Integer> chunk = userIds.subList(from, Math.min(from + ApiConstants.USER_MULTI_GET_CHUNK_SIZE, userIds.size()));
+                Map<Integer, UserEntity> found = new HashMap<>();
+                for (UserEntity userEntity : userRepository.findAllById(chunk)) {
+                    found.put(userEntity.getUserId(), userEntity);
+                }
+                for (Integer userId : chunk) {
+                    UserEntity userEntity = found.get(userId);
+                    if (userEntity == null) {
+                        missingIds.add(userId);
+                    } else {
+                        UserEntityWriter.write(userEntity, generator);
+                    }
+                }
+                generator.flush();
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("missingIds");
+            for (Integer missingId : missingIds) {
+                generator.writeNumber(missingId);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeUsers(OutputStream outputStream, JsonFactory factory, boolean ndjson) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserEntity> users = userRepository.streamAllByOrderByUserIdAsc();
+                 JsonGenerator generator = factory.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+                int written = 0;
+                Iterator<UserEntity> iterator = users.iterator();
+                while (iterator.hasNext()) {
+                    UserEntity userEntity = iterator.next();
+                    UserEntityWriter.write(userEntity, generator);
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                    entityManager.detach(userEntity);
+                    if (++written % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+-- User change log behind GET /user/changes. Every insert, update and delete on tbl_user appends
+-- a row in the same transaction, whichever path made it. The trigger takes no lock: rows get a
+-- change_id in the order they were written and no change_seq. UserChangeFeedService later gives
+-- committed rows their change_seq in change_id order, so change_seq order is commit order, a
+-- consumer resuming from the last change_seq it saw cannot miss a change that committed late,
+-- and two changes to the same user keep their order (the second waits for the first's row lock).
+CREATE SEQUENCE IF NOT EXISTS tbl_user_change_seq;
+CREATE SEQUENCE IF NOT EXISTS tbl_user_change_id_seq;
+
+-- Tables created before change_id existed were keyed by change_seq, which the trigger assigned.
+ALTER TABLE tbl_user_change ADD COLUMN IF NOT EXISTS change_id bigint;
+DO '
+DECLARE
+    pk_name text;
+BEGIN
+    SELECT c.conname INTO pk_name
+    FROM pg_constraint c
+    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+    WHERE c.conrelid = ''tbl_user_change''::regclass AND c.contype = ''p'' AND a.attname = ''change_seq'';
+    IF pk_name IS NOT NULL THEN
+        UPDATE tbl_user_change SET change_id = change_seq WHERE change_id IS NULL;
+        EXECUTE format(''ALTER TABLE tbl_user_change DROP CONSTRAINT %I'', pk_name);
+        ALTER TABLE tbl_user_change ALTER COLUMN change_seq DROP NOT NULL;
+        ALTER TABLE tbl_user_change ADD PRIMARY KEY (change_id);
+    END IF;
+END';
+SELECT setval('tbl_user_change_id_seq', t.max_change_id)
+FROM (SELECT max(change_id) AS max_change_id FROM tbl_user_change) t
+WHERE t.max_change_id > (SELECT last_value FROM tbl_user_change_id_seq);
+CREATE INDEX IF NOT EXISTS ix_tbl_user_change_unsequenced ON tbl_user_change (change_id) WHERE change_seq IS NULL;
+
+CREATE OR REPLACE FUNCTION tbl_user_record_change() RETURNS trigger LANGUAGE plpgsql AS '
+BEGIN
+    IF TG_OP = ''DELETE'' THEN
+        INSERT INTO tbl_user_change (change_id, operation, user_id, changed_at)
+        VALUES (nextval(''tbl_user_change_id_seq''), TG_OP, OLD.user_id, now());
+        RETURN OLD;
+    END IF;
+    INSERT INTO tbl_user_change (change_id, operation, user_id, user_name, user_email, user_band, version, changed_at)
+    VALUES (nextval(''tbl_user_change_id_seq''), TG_OP, NEW.user_id, NEW.user_name, NEW.user_email, NEW.user_band, NEW.version, now());
+    RETURN NEW;
+END';
+
+DROP TRIGGER IF EXISTS tbl_user_change_trigger ON tbl_user;
+CREATE TRIGGER tbl_user_change_trigger AFTER INSERT OR UPDATE OR DELETE ON tbl_user
+    FOR EACH ROW EXECUTE FUNCTION tbl_user_record_change();
@@ -0,0 +1,44 @@
+-- Indexes Hibernate cannot express through JPA annotations. Run after the schema update.
+
+-- Emails used to be unique only as typed, so a database created before the case-insensitive
+-- index may hold addresses that differ only in case, and creating the index would fail. Before
+-- the index exists, the oldest user keeps each such address; every later one is recorded in
+-- tbl_user_email_duplicate and renamed to <user_id>.duplicate.<address> for an operator to
+-- resolve. Once the index exists this does nothing.
+CREATE TABLE IF NOT EXISTS tbl_user_email_duplicate (
+    user_id integer PRIMARY KEY,
+    user_email varchar(255) NOT NULL,
+    kept_user_id integer NOT NULL,
+    renamed_at timestamptz NOT NULL DEFAULT now()
+);
+DO '
+DECLARE
+    renamed integer;
+BEGIN
+    IF to_regclass(''ux_tbl_user_email_lower'') IS NOT NULL THEN
+        RETURN;
+    END IF;
+    WITH ranked AS (
+        SELECT user_id, user_email,
+               first_value(user_id) OVER (PARTITION BY lower(user_email) ORDER BY user_id) AS kept_user_id
+        FROM tbl_user WHERE user_email IS NOT NULL
+    )
+    INSERT INTO tbl_user_email_duplicate (user_id, user_email, kept_user_id)
+    SELECT user_id, user_email, kept_user_id FROM ranked WHERE user_id <> kept_user_id
+    ON CONFLICT (user_id) DO NOTHING;
+    UPDATE tbl_user u SET user_email = left(u.user_id || ''.duplicate.'' || u.user_email, 255), version = u.version + 1
+    FROM tbl_user_email_duplicate d
+    WHERE d.user_id = u.user_id AND u.user_email = d.user_email;
+    GET DIAGNOSTICS renamed = ROW_COUNT;
+    IF renamed > 0 THEN
+        RAISE WARNING ''Renamed % users whose email matched an older user except for case, see tbl_user_email_duplicate'', renamed;
+    END IF;
+END';
+CREATE UNIQUE INDEX IF NOT EXISTS ux_tbl_user_email_lower ON tbl_user (lower(user_email));
+
+-- Search: name prefix (btree, pattern ops so LIKE 'abc%' can use it), name substring and
+-- email domain suffix (trigram GIN).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS ix_tbl_user_name_lower_prefix ON tbl_user (lower(user_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS ix_tbl_user_name_lower_trgm ON tbl_user USING gin (lower(user_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS ix_tbl_user_email_lower_trgm ON tbl_user USING gin (lower(user_email) gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- UserEntity draws IDs from tbl_user_seq in blocks of 50. Databases created before it named the
+-- sequence used Hibernate's implicit user_entity_seq, and ddl-auto starts tbl_user_seq at 1,
+-- which would hand out IDs that are already taken. Move the sequence past the highest user ID
+-- whenever it is behind; once it is ahead this is a no-op, so it is safe on every startup.
+-- The floor of 50 keeps a fresh sequence from handing out 1, the one value Hibernate reads as a
+-- block starting at it rather than ending at it, so every writer reads every value the same way.
+SELECT setval('tbl_user_seq', t.floor_user_id)
+FROM (SELECT greatest(coalesce(max(user_id), 0), 50) AS floor_user_id FROM tbl_user) t
+WHERE t.floor_user_id > (SELECT last_value FROM tbl_user_seq);
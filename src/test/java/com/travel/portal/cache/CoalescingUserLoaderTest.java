@@ -0,0 +1,117 @@
+package com.travel.portal.cache;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingUserLoaderTest {
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    CoalescingUserLoader userLoader;
+
+    @AfterEach
+    void tearDown() {
+        userLoader.close();
+    }
+
+    @Test
+    void testConcurrentLookupsShareOneBatchedQuery() throws Exception {
+        userLoader = new CoalescingUserLoader(userRepository, properties(Duration.ofMillis(200)), transactionManager);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        userLoader.bindTo(registry);
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                new UserEntity(1, "John Doe", "abc@def.com", "A"),
+                new UserEntity(2, "Test User", "test@user.com", "B")));
+
+        List<Optional<UserEntity>> results = lookUpConcurrently(1, 1, 1, 2, 3);
+
+        verify(userRepository, times(1)).findAllById(anyIterable());
+        assertEquals("A", results.get(0).orElseThrow().getUserBand(), "Coalesced callers should get the loaded user");
+        assertEquals("A", results.get(2).orElseThrow().getUserBand(), "Coalesced callers should get the loaded user");
+        assertEquals("B", results.get(3).orElseThrow().getUserBand(), "Batched IDs should each get their own user");
+        assertTrue(results.get(4).isEmpty(), "An ID missing from the batch result should not be found");
+        assertEquals(5.0 / 3, userLoader.coalescingRatio(), 1e-9, "Five lookups should have needed three loads");
+        assertEquals(3.0, registry.get("portal.user.loader.batch.size").summary().totalAmount(), "One batch of three IDs should be recorded");
+    }
+
+    @Test
+    void testFullBatchIsSentWithoutWaitingForWindow() {
+        UserCacheProperties properties = properties(Duration.ofMinutes(1));
+        properties.getLoader().setMaxBatchSize(1);
+        userLoader = new CoalescingUserLoader(userRepository, properties, transactionManager);
+        when(userRepository.findAllById(List.of(1))).thenReturn(List.of(new UserEntity(1, "John Doe", "abc@def.com", "A")));
+
+        assertTrue(userLoader.findById(1).isPresent(), "A full batch should be loaded straight away");
+    }
+
+    @Test
+    void testZeroWindowLoadsInCallerThread() {
+        userLoader = new CoalescingUserLoader(userRepository, properties(Duration.ZERO), transactionManager);
+        when(userRepository.findById(1)).thenReturn(Optional.of(new UserEntity(1, "John Doe", "abc@def.com", "A")));
+
+        assertTrue(userLoader.findById(1).isPresent(), "The user should be loaded without batching");
+        verify(userRepository).findById(1);
+    }
+
+    @Test
+    void testLoadFailureReachesEveryWaiter() {
+        userLoader = new CoalescingUserLoader(userRepository, properties(Duration.ofMillis(1)), transactionManager);
+        when(userRepository.findAllById(anyIterable())).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> userLoader.findById(1));
+    }
+
+    private List<Optional<UserEntity>> lookUpConcurrently(int... userIds) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService callers = Executors.newFixedThreadPool(userIds.length)) {
+            List<Future<Optional<UserEntity>>> futures = IntStream.of(userIds)
+                    .mapToObj(userId -> callers.submit(() -> {
+                        start.await();
+                        return userLoader.findById(userId);
+                    }))
+                    .toList();
+            start.countDown();
+            List<Optional<UserEntity>> results = new ArrayList<>();
+            for (Future<Optional<UserEntity>> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return results;
+        }
+    }
+
+    private static UserCacheProperties properties(Duration batchWindow) {
+        UserCacheProperties properties = new UserCacheProperties();
+        properties.getLoader().setBatchWindow(batchWindow);
+        return properties;
+    }
+}
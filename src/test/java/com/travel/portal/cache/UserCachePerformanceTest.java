@@ -0,0 +1,61 @@
+package com.travel.portal.cache;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Compares getUserById latency with and without the user cache, using a repository stub that
+ * simulates a Postgres round trip. Run with {@code ./gradlew performanceTest}.
+ */
+@Tag("performance")
+class UserCachePerformanceTest {
+    private static final int USERS = 100_000;
+    private static final int HOT_USERS = 500;
+    private static final int READS = 20_000;
+    private static final long DB_ROUND_TRIP_NANOS = 200_000;
+
+    @Test
+    void testCacheReducesP99Latency() {
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findById(anyInt())).thenAnswer(invocation -> {
+            LockSupport.parkNanos(DB_ROUND_TRIP_NANOS);
+            int userId = invocation.getArgument(0);
+            return Optional.of(new UserEntity(userId, "User " + userId, "user" + userId + "@example.com", "L2"));
+        });
+        UserCacheProperties disabled = new UserCacheProperties();
+        disabled.setEnabled(false);
+
+        long uncachedP99 = p99(new UserCache(userRepository, disabled)::findById);
+        long cachedP99 = p99(new UserCache(userRepository, new UserCacheProperties())::findById);
+
+        System.out.printf("getUserById p99: uncached=%dus cached=%dus%n", uncachedP99 / 1_000, cachedP99 / 1_000);
+        assertTrue(cachedP99 < uncachedP99, "The cache should lower p99 latency for a hot read set");
+    }
+
+    private long p99(IntFunction<Optional<UserEntity>> lookup) {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] latencies = new long[READS];
+        for (int i = 0; i < READS; i++) {
+            int userId = random.nextInt(100) < 95 ? random.nextInt(HOT_USERS) + 1 : random.nextInt(USERS) + 1;
+            long start = System.nanoTime();
+            lookup.apply(userId);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies[(int) (READS * 0.99)];
+    }
+}
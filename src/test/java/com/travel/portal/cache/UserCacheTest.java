@@ -0,0 +1,83 @@
+package com.travel.portal.cache;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+    @Mock
+    UserRepository userRepository;
+
+    UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userRepository, new UserCacheProperties());
+    }
+
+    @Test
+    void testFindByIdLoadsOnceThenHits() {
+        when(userRepository.findById(1)).thenReturn(Optional.of(new UserEntity(1, "John Doe", "abc@def.com", "A")));
+        userCache.findById(1);
+        Optional<UserEntity> cachedUser = userCache.findById(1);
+        verify(userRepository, times(1)).findById(1);
+        assertTrue(cachedUser.isPresent(), "The cached user should be returned");
+        assertEquals(1, userCache.stats().hitCount(), "The second read should be a hit");
+    }
+
+    @Test
+    void testMissingUserIsNotCached() {
+        when(userRepository.findById(2)).thenReturn(Optional.empty());
+        userCache.findById(2);
+        userCache.findById(2);
+        verify(userRepository, times(2)).findById(2);
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        when(userRepository.findById(1)).thenReturn(Optional.of(new UserEntity(1, "John Doe", "abc@def.com", "A")));
+        userCache.findById(1);
+        userCache.invalidate(1);
+        userCache.findById(1);
+        verify(userRepository, times(2)).findById(1);
+    }
+
+    @Test
+    void testPutServesUpdatedUserWithoutLoading() {
+        userCache.put(new UserEntity(3, "Test User", "test@user.com", "B"));
+        Optional<UserEntity> cachedUser = userCache.findById(3);
+        assertTrue(cachedUser.isPresent(), "The user put into the cache should be returned");
+        assertEquals("B", cachedUser.get().getUserBand(), "The cached user should reflect the latest write");
+        verify(userRepository, times(0)).findById(3);
+    }
+
+    @Test
+    void testInvalidateEvictsSecondLevelCache() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        org.hibernate.Cache secondLevelCache = mock(org.hibernate.Cache.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+
+        new UserCache(mock(CoalescingUserLoader.class), new UserCacheProperties(), entityManagerFactory, null).invalidate(4);
+
+        verify(secondLevelCache).evictEntityData(UserEntity.class, 4);
+        verify(secondLevelCache).evictQueryRegion(UserEntity.QUERY_CACHE_REGION);
+    }
+}
@@ -0,0 +1,45 @@
+package com.travel.portal.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.mapper.UserMapper;
+import com.travel.portal.model.UserModel;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserEntityWriterTest {
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testJsonMatchesModelSerialization() throws IOException {
+        UserEntity userEntity = new UserEntity(1, "John \"JD\" Doe", "abc@def.com", null, 4L);
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            UserEntityWriter.write(userEntity, generator);
+        }
+
+        assertEquals(objectMapper.writeValueAsString(UserMapper.toModel(userEntity)), json.toString());
+    }
+
+    @Test
+    void testCborDecodesToSameModel() throws IOException {
+        UserEntity userEntity = new UserEntity(2, "Test User", "test@user.com", "B", 1L);
+        ByteArrayOutputStream cbor = new ByteArrayOutputStream();
+        try (JsonGenerator generator = new CBORFactory().createGenerator(cbor)) {
+            UserEntityWriter.write(userEntity, generator);
+        }
+
+        CBORMapper cborMapper = new CBORMapper();
+        assertArrayEquals(cborMapper.writeValueAsBytes(UserMapper.toModel(userEntity)), cbor.toByteArray());
+        assertEquals("Test User", cborMapper.readValue(cbor.toByteArray(), UserModel.class).getUserName());
+    }
+}
@@ -0,0 +1,92 @@
+package com.travel.portal.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserModel;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserProtobufCodecTest {
+
+    @Test
+    void testUserRoundTrip() throws IOException {
+        UserModel user = new UserModel(7, "J\u00f6rg M\u00fcller", "abc@def.com", "L2", 3L);
+
+        UserModel decoded = UserProtobufCodec.readUser(CodedInputStream.newInstance(encode(user)));
+
+        assertEquals(7, decoded.getUserId());
+        assertEquals("J\u00f6rg M\u00fcller", decoded.getUserName());
+        assertEquals("abc@def.com", decoded.getUserEmail());
+        assertEquals("L2", decoded.getUserBand());
+        assertEquals(3L, decoded.getVersion());
+    }
+
+    @Test
+    void testAbsentFieldsDecodeAsNull() throws IOException {
+        UserModel decoded = UserProtobufCodec.readUser(CodedInputStream.newInstance(
+                encode(UserModel.builder().userName("John Doe").build())));
+
+        assertEquals("John Doe", decoded.getUserName());
+        assertNull(decoded.getUserEmail());
+        assertNull(decoded.getVersion(), "A missing version must not turn into version 0");
+    }
+
+    @Test
+    void testVersionZeroIsKept() throws IOException {
+        UserModel decoded = UserProtobufCodec.readUser(CodedInputStream.newInstance(
+                encode(new UserModel(1, "John Doe", "abc@def.com", "L2", 0L))));
+
+        assertEquals(0L, decoded.getVersion());
+    }
+
+    @Test
+    void testUserListRoundTrip() throws IOException {
+        List<UserModel> users = List.of(new UserModel(1, "John Doe", "abc@def.com", "A", 0L),
+                new UserModel(2, "Test User", "test@user.com", "B", 5L));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        UserProtobufCodec.writeUserList(users, output);
+        output.flush();
+
+        List<UserModel> decoded = UserProtobufCodec.readUserList(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(2, decoded.size());
+        assertEquals("Test User", decoded.get(1).getUserName());
+        assertEquals(5L, decoded.get(1).getVersion());
+    }
+
+    @Test
+    void testDelimitedEntitiesCanBeReadOneByOne() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        UserProtobufCodec.writeDelimitedUser(new UserEntity(1, "John Doe", "abc@def.com", "A"), output);
+        UserProtobufCodec.writeDelimitedUser(new UserEntity(2, "Test User", "test@user.com", "B"), output);
+        output.flush();
+
+        CodedInputStream input = CodedInputStream.newInstance(bytes.toByteArray());
+        int limit = input.pushLimit(input.readRawVarint32());
+        assertEquals(1, UserProtobufCodec.readUser(input).getUserId());
+        input.popLimit(limit);
+        limit = input.pushLimit(input.readRawVarint32());
+        assertEquals("Test User", UserProtobufCodec.readUser(input).getUserName());
+        input.popLimit(limit);
+        assertTrue(input.isAtEnd(), "Only the two users should have been written");
+    }
+
+    private static byte[] encode(UserModel user) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        UserProtobufCodec.writeUser(user, output);
+        output.flush();
+        return bytes.toByteArray();
+    }
+}
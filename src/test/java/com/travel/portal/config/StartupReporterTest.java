@@ -0,0 +1,78 @@
+package com.travel.portal.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.portal.model.StartupReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StartupReporterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testReportListsSlowestStepsFirst() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        StartupStep fast = startup.start("spring.beans.instantiate").tag("beanName", "fast");
+        fast.end();
+        StartupStep slow = startup.start("spring.beans.instantiate").tag("beanName", "slow");
+        Thread.sleep(20);
+        slow.end();
+        StartupReportProperties properties = new StartupReportProperties();
+        properties.setSlowestSteps(1);
+
+        StartupReport report = new StartupReporter(properties, objectMapper)
+                .report(startup.getBufferedTimeline(), Duration.ofMillis(1500));
+
+        assertEquals(1500, report.readyMillis());
+        assertEquals(2, report.recordedSteps());
+        assertEquals(1, report.slowestSteps().size());
+        assertEquals("spring.beans.instantiate", report.slowestSteps().getFirst().name());
+        assertEquals("slow", report.slowestSteps().getFirst().tags().get("beanName"));
+        assertTrue(report.slowestSteps().getFirst().millis() >= 20);
+    }
+
+    @Test
+    void testReadyEventWritesReportFile(@TempDir Path tempDir) throws Exception {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        startup.start("spring.context.refresh").end();
+        Path reportFile = tempDir.resolve("reports/startup.json");
+        StartupReportProperties properties = new StartupReportProperties();
+        properties.setReportFile(reportFile);
+
+        new StartupReporter(properties, objectMapper).onApplicationEvent(readyEvent(startup));
+
+        JsonNode report = objectMapper.readTree(Files.readString(reportFile));
+        assertEquals(250, report.get("readyMillis").asLong());
+        assertEquals("spring.context.refresh", report.get("slowestSteps").get(0).get("name").asText());
+    }
+
+    @Test
+    void testReadyEventWithoutBufferingStartupDoesNothing(@TempDir Path tempDir) {
+        Path reportFile = tempDir.resolve("startup.json");
+        StartupReportProperties properties = new StartupReportProperties();
+        properties.setReportFile(reportFile);
+
+        new StartupReporter(properties, objectMapper).onApplicationEvent(readyEvent(ApplicationStartup.DEFAULT));
+
+        assertFalse(Files.exists(reportFile));
+    }
+
+    private static ApplicationReadyEvent readyEvent(ApplicationStartup startup) {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getApplicationStartup()).thenReturn(startup);
+        return new ApplicationReadyEvent(mock(SpringApplication.class), new String[0], context, Duration.ofMillis(250));
+    }
+}
@@ -0,0 +1,75 @@
+package com.travel.portal.config;
+
+import com.travel.portal.cache.UserCache;
+import com.travel.portal.controller.UserController;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.logging.RequestLogSampler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Drives getUserById with a blocking lookup through a Tomcat-sized platform thread pool and
+ * through virtual threads, and prints throughput and tail latency for both.
+ * Run with {@code ./gradlew performanceTest}.
+ */
+@Tag("performance")
+class VirtualThreadLoadTest {
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int REQUESTS = 20_000;
+    private static final long BLOCKING_NANOS = 5_000_000;
+
+    @Test
+    void testCompareThroughputAndTailLatency() throws Exception {
+        UserCache userCache = mock(UserCache.class, withSettings().stubOnly());
+        when(userCache.findById(anyInt())).thenAnswer(invocation -> {
+            LockSupport.parkNanos(BLOCKING_NANOS);
+            return Optional.of(new UserEntity(invocation.getArgument(0), "John Doe", "abc@def.com", "L2"));
+        });
+        UserController userController = new UserController(null, null, userCache, null, null, null, null, new RequestLogSampler(1));
+
+        try (ExecutorService platform = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)) {
+            run("platform", platform, userController);
+        }
+        try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            run("virtual", virtual, userController);
+        }
+    }
+
+    private void run(String mode, ExecutorService executor, UserController userController) throws Exception {
+        long[] latencies = new long[REQUESTS];
+        Future<?>[] futures = new Future<?>[REQUESTS];
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            int request = i;
+            long submitted = System.nanoTime();
+            futures[i] = executor.submit(() -> {
+                userController.getUserById(request % 1000 + 1, new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+                latencies[request] = System.nanoTime() - submitted;
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latencies);
+        System.out.printf("%s threads: %.0f req/s, p50=%dms p99=%dms%n", mode, REQUESTS / seconds,
+                latencies[REQUESTS / 2] / 1_000_000, latencies[(int) (REQUESTS * 0.99)] / 1_000_000);
+        assertEquals(REQUESTS, Arrays.stream(latencies).filter(latency -> latency > 0).count(), "Every request should complete");
+    }
+}
@@ -0,0 +1,118 @@
+package com.travel.portal.controller;
+
+import com.travel.portal.PortalApplication;
+import com.travel.portal.constant.ApiConstants;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Starts the application twice against the same in-memory H2 database standing in for
+ * Postgres, once on Spring MVC and JPA and once with the {@code reactive} profile, seeds it
+ * with users over HTTP and then drives getUserById with {@value #CONCURRENCY} requests in
+ * flight, printing throughput and tail latency for both.
+ * Run with {@code ./gradlew performanceTest}.
+ */
+@Tag("performance")
+class ReactiveUserApiLoadTest {
+    private static final int USERS = 1000;
+    private static final int REQUESTS = 50_000;
+    private static final int CONCURRENCY = 1000;
+    private static final String[] DATABASE_PROPERTIES = {
+            "server.port=0",
+            "spring.datasource.url=jdbc:h2:mem:portal-load;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "spring.datasource.username=sa",
+            "spring.datasource.password=",
+            "spring.sql.init.mode=never",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.jpa.show-sql=false",
+            "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "portal.reactive.r2dbc.url=r2dbc:h2:mem:///portal-load?options=MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "portal.reactive.r2dbc.username=sa",
+            "portal.reactive.r2dbc.password=",
+            "logging.level.root=WARN"
+    };
+
+    @Test
+    void testCompareMvcAndReactiveUnderHighConcurrency() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        run("mvc", client);
+        run("reactive", client, "reactive");
+    }
+
+    private void run(String mode, HttpClient client, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PortalApplication.class)
+                .profiles(profiles)
+                .properties(DATABASE_PROPERTIES)
+                .run()) {
+            String baseUri = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                    + ApiConstants.USER_CONTROLLER_MAPPING;
+            seed(client, baseUri);
+            int[] userIds = findUserIds(client, baseUri);
+
+            long[] latencies = new long[REQUESTS];
+            AtomicInteger succeeded = new AtomicInteger();
+            Semaphore inFlight = new Semaphore(CONCURRENCY);
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[REQUESTS];
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int request = i;
+                inFlight.acquire();
+                long submitted = System.nanoTime();
+                HttpRequest getUserById = HttpRequest.newBuilder(URI.create(baseUri + ApiConstants.USER_CONTROLLER_MAPPING_FIND_USER_BY_ID
+                        + "?userId=" + userIds[request % userIds.length])).build();
+                futures[i] = client.sendAsync(getUserById, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            latencies[request] = System.nanoTime() - submitted;
+                            if (failure == null && response.statusCode() == 200) {
+                                succeeded.incrementAndGet();
+                            }
+                            inFlight.release();
+                        });
+            }
+            CompletableFuture.allOf(futures).join();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(latencies);
+            System.out.printf("%s: %.0f req/s, p50=%dms p99=%dms%n", mode, REQUESTS / seconds,
+                    latencies[REQUESTS / 2] / 1_000_000, latencies[(int) (REQUESTS * 0.99)] / 1_000_000);
+            assertEquals(REQUESTS, succeeded.get(), "Every request should find its user");
+        }
+    }
+
+    private static void seed(HttpClient client, String baseUri) throws Exception {
+        String users = IntStream.range(0, USERS)
+                .mapToObj(i -> "{\"userName\":\"User " + i + "\",\"userEmail\":\"user" + i + "@example.com\",\"userBand\":\"L" + (i % 5) + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUri + ApiConstants.USER_CONTROLLER_MAPPING_ADD_USERS))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(users))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+    }
+
+    private static int[] findUserIds(HttpClient client, String baseUri) throws Exception {
+        String page = client.send(HttpRequest.newBuilder(URI.create(baseUri + ApiConstants.USER_CONTROLLER_MAPPING_FIND_PAGE
+                        + "?size=" + USERS)).build(), HttpResponse.BodyHandlers.ofString()).body();
+        int[] userIds = Arrays.stream(page.split("\"userId\":"))
+                .skip(1)
+                .mapToInt(field -> Integer.parseInt(field.substring(0, field.indexOf(','))))
+                .toArray();
+        assertEquals(USERS, userIds.length, "Every seeded user should be listed");
+        return userIds;
+    }
+}
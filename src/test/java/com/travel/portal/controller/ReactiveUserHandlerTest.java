@@ -0,0 +1,145 @@
+package com.travel.portal.controller;
+
+import com.travel.portal.constant.ApiConstants;
+import com.travel.portal.exception.exceptionDetails.ErrorResponse;
+import com.travel.portal.exception.exceptionDetails.InvalidUserIdsException;
+import com.travel.portal.exception.exceptionDetails.UserNotFoundException;
+import com.travel.portal.logging.RequestLogSampler;
+import com.travel.portal.model.UserBatchItemResult;
+import com.travel.portal.model.UserModel;
+import com.travel.portal.repository.ReactiveUserRepository;
+import com.travel.portal.service.UserBandAggregates;
+import com.travel.portal.service.UserBatchService;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.EntityResponse;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveUserHandlerTest {
+    @InjectMocks
+    ReactiveUserHandler reactiveUserHandler;
+
+    @Mock
+    ReactiveUserRepository userRepository;
+
+    @Mock
+    UserBandAggregates userBandAggregates;
+
+    @Mock
+    Validator validator;
+
+    @Mock
+    RequestLogSampler requestLogSampler;
+
+    @Test
+    void testGetUserByIdReturnsUserWithETag() {
+        UserModel user = new UserModel(1, "John Doe", "abc@def.com", "L2", 3L);
+        when(userRepository.findById(1)).thenReturn(Mono.just(user));
+
+        ServerResponse response = reactiveUserHandler.getUserById(request(MockServerHttpRequest.get("/user/getUserById?userId=1"))).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals("\"u1-3\"", response.headers().getETag());
+        assertSame(user, ((EntityResponse<?>) response).entity());
+    }
+
+    @Test
+    void testGetUserByIdNotModified() {
+        when(userRepository.findById(1)).thenReturn(Mono.just(new UserModel(1, "John Doe", "abc@def.com", "L2", 3L)));
+
+        ServerResponse response = reactiveUserHandler.getUserById(request(MockServerHttpRequest.get("/user/getUserById?userId=1")
+                .ifNoneMatch("\"u1-3\""))).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.statusCode());
+    }
+
+    @Test
+    void testGetUserByIdNotFound() {
+        when(userRepository.findById(7)).thenReturn(Mono.empty());
+
+        ServerResponse response = reactiveUserHandler.getUserById(request(MockServerHttpRequest.get("/user/getUserById?userId=7"))).block();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.statusCode());
+    }
+
+    @Test
+    void testGetUserByIdRejectsMalformedId() {
+        ServerRequest request = request(MockServerHttpRequest.get("/user/getUserById?userId=abc"));
+
+        ServerWebInputException exception = assertThrows(ServerWebInputException.class, () -> reactiveUserHandler.getUserById(request));
+
+        assertEquals("Failed to convert 'abc' to required type 'int'", exception.getReason());
+    }
+
+    @Test
+    void testGetUsersByIdsRejectsEmptyList() {
+        ServerRequest request = request(MockServerHttpRequest.post("/user/getUsersByIds")
+                .contentType(MediaType.APPLICATION_JSON), "[]");
+
+        StepVerifier.create(reactiveUserHandler.getUsersByIds(request))
+                .expectError(InvalidUserIdsException.class)
+                .verify();
+    }
+
+    @Test
+    void testAddUsersStopsReadingAfterMaxItems() {
+        when(userRepository.insertAll(anyList())).thenAnswer(invocation -> Flux.fromIterable(invocation.<List<UserModel>>getArgument(0)));
+        String body = "{\"userName\": \"John Doe\", \"userEmail\": \"abc@def.com\", \"userBand\": \"A\"}\n"
+                .repeat(ApiConstants.USER_BATCH_MAX_ITEMS + 5);
+        ServerRequest request = request(MockServerHttpRequest.post("/user/addUsers")
+                .contentType(MediaType.APPLICATION_NDJSON), body);
+
+        ServerResponse response = reactiveUserHandler.addUsers(request).block();
+
+        List<?> results = assertInstanceOf(List.class, ((EntityResponse<?>) response).entity());
+        assertEquals(ApiConstants.USER_BATCH_MAX_ITEMS + 1, results.size(), "Items past the limit should not be read");
+        UserBatchItemResult cutOff = (UserBatchItemResult) results.getLast();
+        assertEquals(UserBatchItemResult.Status.INVALID, cutOff.getStatus());
+        assertEquals(List.of(UserBatchService.ITEM_LIMIT_EXCEEDED), cutOff.getErrors());
+    }
+
+    @Test
+    void testErrorResponseMatchesServletErrorBody() {
+        ServerRequest request = request(MockServerHttpRequest.get("/user/getUserById?userId=7"));
+
+        ServerResponse response = reactiveUserHandler.errorResponse(new UserNotFoundException(7), request).block();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.statusCode());
+        ErrorResponse body = assertInstanceOf(ErrorResponse.class, ((EntityResponse<?>) response).entity());
+        assertEquals("User Not Found", body.getError());
+        assertEquals("User not found with id: 7", body.getMessage());
+        assertEquals("uri=/user/getUserById", body.getPath());
+    }
+
+    private static ServerRequest request(MockServerHttpRequest.BaseBuilder<?> request) {
+        return ServerRequest.create(MockServerWebExchange.from(request), HandlerStrategies.withDefaults().messageReaders());
+    }
+
+    private static ServerRequest request(MockServerHttpRequest.BodyBuilder request, String body) {
+        return ServerRequest.create(MockServerWebExchange.from(request.body(body)), HandlerStrategies.withDefaults().messageReaders());
+    }
+}
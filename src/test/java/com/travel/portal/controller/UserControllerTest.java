@@ -1,19 +1,61 @@
 package com.travel.portal.controller;
 
+import com.travel.portal.cache.UserCache;
+import com.travel.portal.constant.ApiConstants;
 import com.travel.portal.entity.UserEntity;
+import com.travel.portal.exception.exceptionDetails.ChangesPrunedException;
+import com.travel.portal.exception.exceptionDetails.ErrorResponse;
+import com.travel.portal.exception.exceptionDetails.InvalidUserIdsException;
+import com.travel.portal.exception.exceptionDetails.UserNotFoundException;
+import com.travel.portal.exception.exceptionDetails.UserVersionConflictException;
+import com.travel.portal.logging.RequestLogSampler;
+import com.travel.portal.model.UserCollectionVersion;
+import com.travel.portal.model.UserImportReport;
+import com.travel.portal.model.UserListSnapshot;
 import com.travel.portal.model.UserModel;
+import com.travel.portal.model.UserPage;
+import com.travel.portal.model.UserSearchCriteria;
+import com.travel.portal.model.UserSearchPage;
+import com.travel.portal.model.UserSummary;
+import com.travel.portal.repository.UserDetailsUpdate;
 import com.travel.portal.repository.UserRepository;
+import com.travel.portal.service.UserBandAggregates;
+import com.travel.portal.service.UserChangeFeedService;
+import com.travel.portal.service.UserCursorCodec;
+import com.travel.portal.service.UserImportService;
+import com.travel.portal.service.UserStreamService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,17 +67,248 @@ class UserControllerTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    UserStreamService userStreamService;
+
+    @Mock
+    UserCache userCache;
+
+    @Mock
+    UserChangeFeedService userChangeFeedService;
+
+    @Mock
+    UserImportService userImportService;
+
+    @Mock
+    UserBandAggregates userBandAggregates;
+
+    @Mock
+    RequestLogSampler requestLogSampler;
+
+    @Mock
+    WebRequest webRequest;
+
     @Test
     void testGetAllUsers() {
         List<UserModel> expectedUsers = getUserModelList();
-        when(userRepository.findAll()).thenReturn(getUserEntityList());
-        ResponseEntity<List<UserModel>> actualUsers = userController.getAllUsers();
-        verify(userRepository).findAll();
+        when(userRepository.findCollectionVersion()).thenReturn(new UserCollectionVersion(2, 2, 3, 0));
+        when(userChangeFeedService.findAllUsersWithChangeSeq()).thenReturn(
+                new UserListSnapshot(new UserCollectionVersion(3, 3, 6, 0), 42L, getUserEntityList()));
+        ResponseEntity<List<UserModel>> actualUsers = userController.getAllUsers(webRequest);
+        assertEquals("\"c3-3-6-0\"", actualUsers.getHeaders().getETag(), "The ETag should describe the list that was sent");
+        assertEquals("42", actualUsers.getHeaders().getFirst(ApiConstants.CHANGE_SEQ_HEADER), "The change feed position should be returned");
         assertNotNull(actualUsers.getBody(), "The returned user list should not be null");
         assertEquals(expectedUsers.size(), actualUsers.getBody().size(), "The size of returned user list should match expected");
         assertEquals(expectedUsers.getFirst().toString(), actualUsers.getBody().getFirst().toString(), "The returned user list should match the expected list");
     }
 
+    @Test
+    void testGetAllUsersSkipsLoadingWhenCollectionUnchanged() {
+        when(userRepository.findCollectionVersion()).thenReturn(new UserCollectionVersion(2, 2, 3, 0));
+        when(webRequest.checkNotModified("\"c2-2-3-0\"")).thenReturn(true);
+        ResponseEntity<List<UserModel>> actualUsers = userController.getAllUsers(webRequest);
+        assertEquals(HttpStatus.NOT_MODIFIED, actualUsers.getStatusCode());
+        assertNull(actualUsers.getBody(), "A 304 should not carry a body");
+        verify(userChangeFeedService, never()).findAllUsersWithChangeSeq();
+    }
+
+    @Test
+    void testGetUserByIdReadsThroughCache() {
+        when(userCache.findById(1)).thenReturn(Optional.of(getUserEntityList().getFirst()));
+        ResponseEntity<UserModel> actualUser = userController.getUserById(1, webRequest);
+        assertNotNull(actualUser.getBody(), "The returned user should not be null");
+        assertEquals(getUserModelList().getFirst().toString(), actualUser.getBody().toString(), "The returned user should match the cached entity");
+        assertEquals("\"u1-0\"", actualUser.getHeaders().getETag(), "The ETag should be derived from the user version");
+    }
+
+    @Test
+    void testGetUserByIdReturnsNotModifiedForMatchingETag() {
+        when(userCache.findById(1)).thenReturn(Optional.of(getUserEntityList().getFirst()));
+        when(webRequest.checkNotModified("\"u1-0\"")).thenReturn(true);
+        ResponseEntity<UserModel> actualUser = userController.getUserById(1, webRequest);
+        assertEquals(HttpStatus.NOT_MODIFIED, actualUser.getStatusCode());
+        assertNull(actualUser.getBody(), "A 304 should not carry a body");
+    }
+
+    @Test
+    void testGetUserByEmail() {
+        when(userRepository.findByUserEmail("ABC@def.com")).thenReturn(Optional.of(getUserEntityList().getFirst()));
+        ResponseEntity<UserModel> actualUser = userController.getUserByEmail("ABC@def.com");
+        assertNotNull(actualUser.getBody(), "The returned user should not be null");
+        assertEquals(1, actualUser.getBody().getUserId(), "The user matching the email should be returned");
+    }
+
+    @Test
+    void testGetUserByUnknownEmailThrowsNotFound() {
+        when(userRepository.findByUserEmail("nobody@def.com")).thenReturn(Optional.empty());
+        assertThrows(UserNotFoundException.class, () -> userController.getUserByEmail("nobody@def.com"));
+    }
+
+    @Test
+    void testAddUserPopulatesCache() {
+        UserEntity savedUser = getUserEntityList().getFirst();
+        when(userRepository.save(any(UserEntity.class))).thenReturn(savedUser);
+        userController.addUser(getUserModelList().getFirst());
+        verify(userCache).put(savedUser);
+    }
+
+    @Test
+    void testDeleteUserInvalidatesCache() {
+        when(userRepository.deleteReturningById(1)).thenReturn(Optional.of(getUserEntityList().getFirst()));
+        ResponseEntity<?> deletedUser = userController.deleteUser(1, webRequest);
+        UserModel deletedModel = assertInstanceOf(UserModel.class, deletedUser.getBody(), "The deleted user should be returned");
+        assertEquals(1, deletedModel.getUserId(), "The deleted user should match the requested ID");
+        verify(userCache).invalidate(1);
+        verify(userBandAggregates).removed("A");
+    }
+
+    @Test
+    void testDeleteMissingUserReturnsNotFoundWithoutThrowing() {
+        when(userRepository.deleteReturningById(3)).thenReturn(Optional.empty());
+        ResponseEntity<?> actualResponse = userController.deleteUser(3, webRequest);
+        assertEquals(HttpStatus.NOT_FOUND, actualResponse.getStatusCode());
+        ErrorResponse errorResponse = assertInstanceOf(ErrorResponse.class, actualResponse.getBody(), "A 404 should carry an error body");
+        assertEquals("User not found with id: 3", errorResponse.getMessage());
+        verify(userCache, never()).invalidate(3);
+    }
+
+    @Test
+    void testImportUsersUpdatesBandCountsAndQueryCache() throws IOException {
+        InputStream requestBody = new ByteArrayInputStream(new byte[0]);
+        when(userImportService.importCsv(requestBody)).thenReturn(UserImportReport.builder()
+                .importedCount(3)
+                .importedByBand(Map.of("L1", 2L, "L2", 1L))
+                .errors(List.of())
+                .build());
+
+        ResponseEntity<UserImportReport> report = userController.importUsersFromCsv(requestBody);
+
+        assertNotNull(report.getBody());
+        assertEquals(3, report.getBody().getImportedCount());
+        verify(userCache).invalidateQueries();
+        verify(userBandAggregates).added("L1", 2L);
+        verify(userBandAggregates).added("L2", 1L);
+    }
+
+    @Test
+    void testUpdateUserIssuesSingleUpdate() {
+        UserModel userModel = getUserModelList().getFirst();
+        when(userRepository.updateUserDetails(1, "John Doe", "abc@def.com", "A")).thenReturn(List.of(updated("B", 3L)));
+        ResponseEntity<UserModel> updatedUser = userController.updateUser(userModel);
+        assertNotNull(updatedUser.getBody(), "The updated user should be returned");
+        assertEquals(3L, updatedUser.getBody().getVersion(), "The returned version should be the one the update wrote");
+        assertEquals("\"u1-3\"", updatedUser.getHeaders().getETag());
+        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(userCache).invalidate(1);
+        verify(userBandAggregates).moved("B", "A");
+    }
+
+    @Test
+    void testUpdateUserWithVersionBumpsVersion() {
+        UserModel userModel = getUserModelList().getFirst();
+        userModel.setVersion(4L);
+        when(userRepository.updateUserDetailsIfVersion(1, "John Doe", "abc@def.com", "A", 4L)).thenReturn(List.of(updated("A", 5L)));
+        ResponseEntity<UserModel> updatedUser = userController.updateUser(userModel);
+        assertNotNull(updatedUser.getBody(), "The updated user should be returned");
+        assertEquals(5L, updatedUser.getBody().getVersion(), "The returned version should be the new one");
+        assertEquals("\"u1-5\"", updatedUser.getHeaders().getETag());
+    }
+
+    @Test
+    void testUpdateUserWithStaleVersionThrowsConflict() {
+        UserModel userModel = getUserModelList().getFirst();
+        userModel.setVersion(4L);
+        when(userRepository.updateUserDetailsIfVersion(1, "John Doe", "abc@def.com", "A", 4L)).thenReturn(List.of());
+        when(userRepository.existsById(1)).thenReturn(true);
+        assertThrows(UserVersionConflictException.class, () -> userController.updateUser(userModel));
+        verify(userCache, never()).invalidate(1);
+    }
+
+    @Test
+    void testUpdateMissingUserThrowsNotFound() {
+        UserModel userModel = getUserModelList().getFirst();
+        when(userRepository.updateUserDetails(1, "John Doe", "abc@def.com", "A")).thenReturn(List.of());
+        assertThrows(UserNotFoundException.class, () -> userController.updateUser(userModel));
+    }
+
+    @Test
+    void testGetUsersPageReturnsCursorWhenMoreUsersExist() {
+        when(userRepository.findByUserIdGreaterThanOrderByUserIdAsc(eq(0), any(Limit.class))).thenReturn(getUserEntityList());
+        ResponseEntity<UserPage> actualPage = userController.getUsersPage(null, 1);
+        assertNotNull(actualPage.getBody(), "The returned page should not be null");
+        assertEquals(1, actualPage.getBody().getUsers().size(), "The page should be trimmed to the requested size");
+        assertEquals(1, UserCursorCodec.decode(actualPage.getBody().getNextCursor()), "The cursor should point after the last returned user");
+    }
+
+    @Test
+    void testGetUsersPageWithoutCursorOnLastPage() {
+        when(userRepository.findByUserIdGreaterThanOrderByUserIdAsc(eq(1), any(Limit.class))).thenReturn(getUserEntityList().subList(1, 2));
+        ResponseEntity<UserPage> actualPage = userController.getUsersPage(UserCursorCodec.encode(1), 10);
+        assertNotNull(actualPage.getBody(), "The returned page should not be null");
+        assertEquals(2, actualPage.getBody().getUsers().getFirst().getUserId(), "The page should start after the cursor");
+        assertNull(actualPage.getBody().getNextCursor(), "The last page should not carry a cursor");
+    }
+
+    @Test
+    void testSearchUsersPassesCriteriaAndClampsPageSize() {
+        UserSearchCriteria expectedCriteria = new UserSearchCriteria("A", "jo", null, "def.com");
+        when(userRepository.search(eq(expectedCriteria), eq(PageRequest.of(0, ApiConstants.USER_PAGE_MAX_SIZE))))
+                .thenReturn(new PageImpl<>(getUserEntityList().subList(0, 1), PageRequest.of(0, ApiConstants.USER_PAGE_MAX_SIZE), 1));
+        ResponseEntity<UserSearchPage<UserModel>> actualPage = userController.searchUsers("A", "jo", null, "def.com", -1, 5000);
+        assertNotNull(actualPage.getBody(), "The returned page should not be null");
+        assertEquals(1, actualPage.getBody().getTotalElements(), "The total should come from the repository page");
+        assertEquals("John Doe", actualPage.getBody().getContent().getFirst().getUserName(), "The matching user should be mapped");
+    }
+
+    @Test
+    void testSearchUserSummaries() {
+        List<UserSummary> summaries = List.of(new UserSummary(2, "Test User", "B"));
+        when(userRepository.searchSummaries(any(UserSearchCriteria.class), eq(PageRequest.of(1, 10))))
+                .thenReturn(new PageImpl<>(summaries, PageRequest.of(1, 10), 11));
+        ResponseEntity<UserSearchPage<UserSummary>> actualPage = userController.searchUserSummaries("B", null, null, null, 1, 10);
+        assertNotNull(actualPage.getBody(), "The returned page should not be null");
+        assertEquals(summaries, actualPage.getBody().getContent(), "The summaries should be returned as-is");
+        assertEquals(1, actualPage.getBody().getPage(), "The page number should be echoed");
+    }
+
+    @Test
+    void testStreamUserChangesRejectsPrunedPosition() {
+        doThrow(new ChangesPrunedException(5)).when(userChangeFeedService).checkRetained(5);
+        assertThrows(ChangesPrunedException.class, () -> userController.streamUserChanges(5));
+    }
+
+    @Test
+    void testStreamUserChangesWritesFromPosition() throws IOException {
+        ResponseEntity<StreamingResponseBody> actualResponse = userController.streamUserChanges(7);
+        assertNotNull(actualResponse.getBody(), "The feed should be streamed");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        actualResponse.getBody().writeTo(outputStream);
+        verify(userChangeFeedService).writeNdjson(7, outputStream);
+    }
+
+    @Test
+    void testGetUsersByIdsStreamsDistinctIdsInOrder() throws IOException {
+        ResponseEntity<StreamingResponseBody> actualResponse = userController.getUsersByIds(List.of(3, 1, 3, 2));
+        assertNotNull(actualResponse.getBody(), "The users should be streamed");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        actualResponse.getBody().writeTo(outputStream);
+        verify(userStreamService).writeUsersByIds(List.of(3, 1, 2), outputStream);
+    }
+
+    @Test
+    void testGetUsersByIdsRejectsEmptyAndOversizedRequests() {
+        assertThrows(InvalidUserIdsException.class, () -> userController.getUsersByIds(List.of()));
+        List<Integer> tooMany = IntStream.rangeClosed(1, ApiConstants.USER_MULTI_GET_MAX_IDS + 1).boxed().toList();
+        assertThrows(InvalidUserIdsException.class, () -> userController.getUsersByIds(tooMany));
+    }
+
+    private UserDetailsUpdate updated(String previousBand, long version) {
+        UserDetailsUpdate updated = mock(UserDetailsUpdate.class);
+        when(updated.getPreviousBand()).thenReturn(previousBand);
+        when(updated.getVersion()).thenReturn(version);
+        return updated;
+    }
+
     private List<UserModel> getUserModelList() {
         return List.of(UserModel.builder()
                         .userName("John Doe")
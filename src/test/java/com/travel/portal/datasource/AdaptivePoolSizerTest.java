@@ -0,0 +1,61 @@
+package com.travel.portal.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptivePoolSizerTest {
+    private static final long SLOW_WAIT = Duration.ofMillis(20).toNanos();
+    private static final long FAST_WAIT = Duration.ofNanos(100_000).toNanos();
+
+    PoolSizingProperties properties;
+    AdaptivePoolSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PoolSizingProperties();
+        properties.setMinimumSize(4);
+        properties.setMaximumSize(12);
+        sizer = new AdaptivePoolSizer(new HikariDataSource(), properties, null);
+    }
+
+    @Test
+    void testSlowAcquiresGrowByStep() {
+        assertEquals(12, sizer.nextSize(10, SLOW_WAIT, 0, 10, 0.2));
+        assertEquals(12, sizer.nextSize(11, SLOW_WAIT, 0, 11, 0.2), "Growth should stop at the maximum size");
+    }
+
+    @Test
+    void testQueuedThreadsGrowEvenWithShortMeanWait() {
+        assertEquals(8, sizer.nextSize(6, FAST_WAIT, 3, 6, 0.2));
+    }
+
+    @Test
+    void testCpuBoundHostDoesNotGrow() {
+        assertEquals(10, sizer.nextSize(10, SLOW_WAIT, 5, 10, 1.5));
+    }
+
+    @Test
+    void testIdlePoolShrinksByOne() {
+        assertEquals(9, sizer.nextSize(10, FAST_WAIT, 0, 2, 0.2));
+        assertEquals(4, sizer.nextSize(4, FAST_WAIT, 0, 0, 0.2), "Shrinking should stop at the minimum size");
+    }
+
+    @Test
+    void testBusyPoolWithShortWaitsHolds() {
+        assertEquals(10, sizer.nextSize(10, FAST_WAIT, 0, 9, 0.2));
+        assertEquals(10, sizer.nextSize(10, Duration.ofMillis(1).toNanos(), 0, 2, 0.2));
+    }
+
+    @Test
+    void testAutoSizeFollowsCoresWithinBounds() {
+        assertEquals(9, properties.autoSize(4));
+        assertEquals(12, properties.autoSize(64));
+        properties.setCores(1);
+        assertEquals(4, properties.autoSize(64));
+    }
+}
@@ -0,0 +1,73 @@
+package com.travel.portal.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+    @Mock
+    DataSource targetDataSource;
+
+    @Mock
+    Connection connection;
+
+    ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 1, Duration.ofMillis(10));
+    }
+
+    @Test
+    void testCloseReleasesPermit() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        Connection guarded = dataSource.getConnection();
+        assertEquals(0, dataSource.availablePermits(), "A checked-out connection should hold a permit");
+        guarded.close();
+        guarded.close();
+        verify(connection, times(2)).close();
+        assertEquals(1, dataSource.availablePermits(), "Closing should release the permit exactly once");
+    }
+
+    @Test
+    void testExhaustedPermitsFailAfterTimeout() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    void testFailedCheckoutReturnsPermit() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool closed"));
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.availablePermits(), "A failed checkout should not leak its permit");
+    }
+
+    @Test
+    void testResizeAdjustsAvailablePermits() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        Connection guarded = dataSource.getConnection();
+        dataSource.setMaxConnections(3);
+        assertEquals(2, dataSource.availablePermits(), "Growing should add permits next to the held one");
+        dataSource.setMaxConnections(1);
+        assertEquals(0, dataSource.availablePermits(), "Shrinking should not revoke the held permit");
+        guarded.close();
+        assertEquals(1, dataSource.availablePermits());
+        assertEquals(1, dataSource.maxConnections());
+    }
+}
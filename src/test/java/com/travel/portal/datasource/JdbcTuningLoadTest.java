@@ -0,0 +1,162 @@
+package com.travel.portal.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the same point-read, batch-insert and large-read workload through a Hikari pool on
+ * driver defaults and through one with the prod profile's pgjdbc settings, and prints
+ * queries/second and rows/second for both.
+ * <p>
+ * Needs a Postgres database it may create a scratch table in:
+ * {@code PORTAL_PERF_JDBC_URL=jdbc:postgresql://localhost:5432/TravelManagement ./gradlew performanceTest},
+ * with {@code PORTAL_PERF_JDBC_USER} and {@code PORTAL_PERF_JDBC_PASSWORD} when they differ from
+ * the local defaults.
+ */
+@Tag("performance")
+@EnabledIfEnvironmentVariable(named = "PORTAL_PERF_JDBC_URL", matches = ".+")
+class JdbcTuningLoadTest {
+    private static final String TABLE = "tbl_jdbc_tuning_probe";
+    private static final int ROWS = 50_000;
+    private static final int BATCH_SIZE = 50;
+    private static final int THREADS = 16;
+    private static final int READS_PER_THREAD = 5_000;
+    private static final Map<String, String> TUNED_PROPERTIES = Map.of(
+            "prepareThreshold", "3",
+            "preparedStatementCacheQueries", "512",
+            "preparedStatementCacheSizeMiB", "16",
+            "reWriteBatchedInserts", "true",
+            "defaultRowFetchSize", "500");
+
+    @Test
+    void testCompareDefaultAndTunedDriverSettings() throws Exception {
+        Result defaults;
+        try (HikariDataSource dataSource = dataSource("defaults", Map.of())) {
+            defaults = run("defaults", dataSource);
+        }
+        Result tuned;
+        try (HikariDataSource dataSource = dataSource("tuned", TUNED_PROPERTIES)) {
+            tuned = run("tuned", dataSource);
+        }
+        System.out.printf("point reads: %.2fx, batch inserts: %.2fx, large read: %.2fx%n",
+                tuned.readsPerSecond / defaults.readsPerSecond,
+                tuned.insertsPerSecond / defaults.insertsPerSecond,
+                tuned.scanRowsPerSecond / defaults.scanRowsPerSecond);
+    }
+
+    private Result run(String mode, HikariDataSource dataSource) throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id INT PRIMARY KEY, name VARCHAR(255), band VARCHAR(16))");
+        }
+        try {
+            double insertsPerSecond = insert(dataSource);
+            double readsPerSecond = pointReads(dataSource);
+            double scanRowsPerSecond = scan(dataSource);
+            System.out.printf("%s: %.0f point reads/s, %.0f inserted rows/s, %.0f scanned rows/s%n",
+                    mode, readsPerSecond, insertsPerSecond, scanRowsPerSecond);
+            return new Result(readsPerSecond, insertsPerSecond, scanRowsPerSecond);
+        } finally {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            }
+        }
+    }
+
+    private double insert(HikariDataSource dataSource) throws SQLException {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, name, band) VALUES (?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            for (int id = 1; id <= ROWS; id++) {
+                insert.setInt(1, id);
+                insert.setString(2, "User " + id);
+                insert.setString(3, "L" + (id % 5 + 1));
+                insert.addBatch();
+                if (id % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return ROWS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private double pointReads(HikariDataSource dataSource) throws Exception {
+        LongAdder found = new LongAdder();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            Future<?>[] futures = new Future<?>[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < READS_PER_THREAD; i++) {
+                        try (Connection connection = dataSource.getConnection();
+                             PreparedStatement select = connection.prepareStatement("SELECT name, band FROM " + TABLE + " WHERE id = ?")) {
+                            select.setInt(1, ThreadLocalRandom.current().nextInt(1, ROWS + 1));
+                            try (ResultSet resultSet = select.executeQuery()) {
+                                if (resultSet.next()) {
+                                    found.increment();
+                                }
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertEquals((long) THREADS * READS_PER_THREAD, found.sum(), "Every point read should find its row");
+        return THREADS * READS_PER_THREAD / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private double scan(HikariDataSource dataSource) throws SQLException {
+        long rows = 0;
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement select = connection.createStatement();
+                 ResultSet resultSet = select.executeQuery("SELECT id, name, band FROM " + TABLE + " ORDER BY id")) {
+                while (resultSet.next()) {
+                    rows++;
+                }
+            }
+            connection.commit();
+        }
+        assertTrue(rows >= ROWS, "The scan should see every inserted row");
+        return rows / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static HikariDataSource dataSource(String poolName, Map<String, String> driverProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(System.getenv("PORTAL_PERF_JDBC_URL"));
+        dataSource.setUsername(System.getenv().getOrDefault("PORTAL_PERF_JDBC_USER", "postgres"));
+        dataSource.setPassword(System.getenv().getOrDefault("PORTAL_PERF_JDBC_PASSWORD", "postgre"));
+        dataSource.setMaximumPoolSize(THREADS);
+        driverProperties.forEach(dataSource::addDataSourceProperty);
+        return dataSource;
+    }
+
+    private record Result(double readsPerSecond, double insertsPerSecond, double scanRowsPerSecond) {
+    }
+}
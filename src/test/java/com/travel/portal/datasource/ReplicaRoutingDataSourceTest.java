@@ -0,0 +1,126 @@
+package com.travel.portal.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and a replica; each one answers
+ * {@code SELECT name FROM db_role} with its own role.
+ */
+class ReplicaRoutingDataSourceTest {
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    DataSource primary;
+    DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary", false);
+        replica = database("replica", true);
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseReplicaAndWritesUsePrimary() {
+        ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replica));
+        Routed routed = new Routed(routing);
+
+        assertEquals("replica", routed.role(true));
+        assertEquals("primary", routed.role(false));
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToPrimaryUntilItCatchesUp() {
+        ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replica));
+        Routed routed = new Routed(routing);
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        routing.checkLag();
+        assertEquals(0, routing.availableReplicas());
+        assertEquals("primary", routed.role(true));
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 0.5");
+        routing.checkLag();
+        assertEquals("replica", routed.role(true));
+    }
+
+    @Test
+    void testUnreachableReplicaFallsBackToPrimary() throws SQLException {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource routing = routing(Map.of("replica-1", unreachable));
+
+        assertEquals(0, routing.availableReplicas());
+        assertEquals("primary", new Routed(routing).role(true));
+    }
+
+    @Test
+    void testReadsAreBalancedAcrossReplicas() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica);
+        replicas.put("replica-2", database("replica-2", true));
+        Routed routed = new Routed(routing(replicas));
+
+        assertEquals("replica", routed.role(true));
+        assertEquals("replica-2", routed.role(true));
+        assertEquals("replica", routed.role(true));
+    }
+
+    private ReplicaRoutingDataSource routing(Map<String, DataSource> replicas) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(5), LAG_QUERY);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private static DataSource database(String role, boolean replica) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + role + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE db_role (name VARCHAR(32))");
+        jdbcTemplate.update("INSERT INTO db_role VALUES (?)", role);
+        if (replica) {
+            jdbcTemplate.execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION)");
+            jdbcTemplate.update("INSERT INTO replica_lag VALUES (0)");
+        }
+        return dataSource;
+    }
+
+    /**
+     * The application's wiring: a lazy proxy over the primary with the routing data source
+     * as its read-only target.
+     */
+    private class Routed {
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routed(ReplicaRoutingDataSource routing) {
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+            dataSource.setReadOnlyDataSource(routing);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String role(boolean readOnlyTransaction) {
+            return (readOnlyTransaction ? readOnly : readWrite)
+                    .execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+        }
+    }
+}
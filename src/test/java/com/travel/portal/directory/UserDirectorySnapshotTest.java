@@ -0,0 +1,49 @@
+package com.travel.portal.directory;
+
+import com.travel.portal.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class UserDirectorySnapshotTest {
+    @Test
+    void testFindRoundTripsAllFields() {
+        UserEntity expectedUser = new UserEntity(7, "Zo\u00eb \u00dcnal", "zoe@example.com", "L3", 4L);
+        UserDirectorySnapshot snapshot = UserDirectorySnapshot.builder().add(expectedUser).build();
+        assertEquals(expectedUser, snapshot.find(7), "The materialised user should equal the one added");
+    }
+
+    @Test
+    void testNullFieldsStayNull() {
+        UserDirectorySnapshot snapshot = UserDirectorySnapshot.builder()
+                .add(new UserEntity(1, null, null, null))
+                .build();
+        UserEntity actualUser = snapshot.find(1);
+        assertNull(actualUser.getUserName(), "A null name should not become empty");
+        assertNull(actualUser.getUserEmail(), "A null email should not become empty");
+        assertNull(snapshot.band(1), "A null band should not be interned");
+    }
+
+    @Test
+    void testManyUsersWithInternedBands() {
+        UserDirectorySnapshot.Builder builder = UserDirectorySnapshot.builder();
+        for (int userId = 1; userId <= 5_000; userId++) {
+            builder.add(new UserEntity(userId * 64, "User " + userId, "user" + userId + "@example.com", "L" + (userId % 5)));
+        }
+        UserDirectorySnapshot snapshot = builder.build();
+        assertEquals(5_000, snapshot.size(), "Every user should be indexed");
+        assertEquals("User 4321", snapshot.find(4321 * 64).getUserName(), "Lookups should survive probing collisions");
+        assertSame(snapshot.band(64), snapshot.band(6 * 64), "Equal bands should share one string");
+        assertFalse(snapshot.contains(65), "IDs that were never added should not be found");
+    }
+
+    @Test
+    void testEmptySnapshot() {
+        UserDirectorySnapshot snapshot = UserDirectorySnapshot.empty();
+        assertEquals(0, snapshot.size(), "An empty snapshot should hold no users");
+        assertNull(snapshot.find(1), "An empty snapshot should not find anything");
+    }
+}
@@ -0,0 +1,114 @@
+package com.travel.portal.directory;
+
+import com.travel.portal.entity.UserChangeEntity;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserChange;
+import com.travel.portal.repository.UserChangeRepository;
+import com.travel.portal.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    UserChangeRepository userChangeRepository;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    UserDirectory userDirectory;
+    AtomicInteger loads = new AtomicInteger();
+    IntFunction<Optional<UserEntity>> loader = userId -> {
+        loads.incrementAndGet();
+        return Optional.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        userDirectory = new UserDirectory(userRepository, userChangeRepository, entityManager, transactionManager);
+        userDirectory.install(UserDirectorySnapshot.builder()
+                .add(new UserEntity(1, "John Doe", "abc@def.com", "A"))
+                .build(), System.nanoTime());
+    }
+
+    @Test
+    void testSnapshotServesWithoutLoader() {
+        assertEquals("A", userDirectory.find(1, loader).orElseThrow().getUserBand(), "The snapshot should serve the user");
+        assertEquals(0, loads.get(), "The loader should not be called for a known user");
+    }
+
+    @Test
+    void testUnknownAndInvalidatedUsersFallBackToLoader() {
+        userDirectory.invalidate(1);
+        assertTrue(userDirectory.find(1, loader).isEmpty(), "An invalidated user should come from the loader");
+        assertTrue(userDirectory.find(2, loader).isEmpty(), "An unknown user should come from the loader");
+        assertEquals(2, loads.get(), "Both lookups should have used the loader");
+    }
+
+    @Test
+    void testLocalChangeSurvivesRebuildThatStartedBeforeIt() {
+        long scanStartedAt = System.nanoTime();
+        userDirectory.put(new UserEntity(1, "John Doe", "abc@def.com", "B"));
+        userDirectory.install(UserDirectorySnapshot.builder()
+                .add(new UserEntity(1, "John Doe", "abc@def.com", "A"))
+                .build(), scanStartedAt);
+        assertEquals("B", userDirectory.find(1, loader).orElseThrow().getUserBand(), "A newer local write should win over the rebuilt snapshot");
+
+        userDirectory.install(UserDirectorySnapshot.builder()
+                .add(new UserEntity(1, "John Doe", "abc@def.com", "B"))
+                .build(), System.nanoTime());
+        assertEquals("B", userDirectory.find(1, loader).orElseThrow().getUserBand(), "The rebuilt snapshot should now carry the write");
+    }
+
+    @Test
+    void testChangeFeedUpdatesAndDeletesUsers() {
+        userDirectory.apply(change(1, UserChange.Operation.INSERT, 2, "C", 0L));
+        userDirectory.apply(change(2, UserChange.Operation.UPDATE, 1, "B", 1L));
+        assertEquals("C", userDirectory.find(2, loader).orElseThrow().getUserBand(), "A user created elsewhere should be served");
+        assertEquals("B", userDirectory.find(1, loader).orElseThrow().getUserBand(), "An update made elsewhere should be served");
+
+        userDirectory.apply(change(3, UserChange.Operation.DELETE, 1, null, null));
+        assertTrue(userDirectory.find(1, loader).isEmpty(), "A deleted user should come from the loader");
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testChangeFeedDoesNotOverrideNewerLocalWrite() {
+        userDirectory.put(new UserEntity(1, "John Doe", "abc@def.com", "C", 2L));
+        userDirectory.apply(change(1, UserChange.Operation.UPDATE, 1, "B", 1L));
+        assertEquals("C", userDirectory.find(1, loader).orElseThrow().getUserBand(), "The newer local write should win");
+    }
+
+    @Test
+    void testChangeFeedDoesNotResurrectLocallyDeletedUser() {
+        userDirectory.invalidate(1);
+        userDirectory.apply(change(1, UserChange.Operation.UPDATE, 1, "B", 1L));
+        assertTrue(userDirectory.find(1, loader).isEmpty(), "An older update should not replace the local tombstone");
+        assertEquals(1, loads.get(), "The lookup should have fallen through to the loader");
+    }
+
+    private static UserChangeEntity change(long changeSeq, UserChange.Operation operation, int userId, String userBand, Long version) {
+        boolean delete = operation == UserChange.Operation.DELETE;
+        return new UserChangeEntity(changeSeq, changeSeq, operation, userId, delete ? null : "John Doe",
+                delete ? null : "abc@def.com", userBand, version, Instant.now());
+    }
+}
@@ -1,16 +1,26 @@
 package com.travel.portal.exceptionTests;
+import com.travel.portal.exception.ErrorTemplate;
 import com.travel.portal.exception.GlobalExceptionHandler;
 import com.travel.portal.exception.exceptionDetails.ErrorResponse;
+import com.travel.portal.exception.exceptionDetails.InvalidCursorException;
+import com.travel.portal.exception.exceptionDetails.RateLimitExceededException;
+import com.travel.portal.exception.exceptionDetails.ServiceOverloadedException;
 import com.travel.portal.exception.exceptionDetails.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.core.MethodParameter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -153,4 +163,113 @@ class ExceptionTest {
         assertEquals("Internal Server Error", errorResponse.getError());
         assertEquals("test-request", errorResponse.getPath());
     }
-}
+
+    @Test
+    void handleInvalidCursorException_ShouldReturnBadRequest() {
+        // Arrange
+        InvalidCursorException exception = new InvalidCursorException("not-a-cursor");
+
+        // Act
+        ResponseEntity<ErrorResponse> responseEntity =
+                globalExceptionHandler.handleInvalidCursorException(exception, webRequest);
+
+        // Assert
+        assertNotNull(responseEntity);
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+
+        ErrorResponse errorResponse = responseEntity.getBody();
+        assertNotNull(errorResponse);
+        assertEquals("Invalid Cursor", errorResponse.getError());
+        assertEquals("Invalid pagination cursor: not-a-cursor", errorResponse.getMessage());
+        assertEquals("test-request", errorResponse.getPath());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_DuplicateEmailShouldReturnConflict() {
+        // Arrange
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), "ux_tbl_user_email_lower"));
+
+        // Act
+        ResponseEntity<ErrorResponse> responseEntity =
+                globalExceptionHandler.handleDataIntegrityViolation(exception, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, responseEntity.getStatusCode());
+        ErrorResponse errorResponse = responseEntity.getBody();
+        assertNotNull(errorResponse);
+        assertEquals("User Already Exists", errorResponse.getError());
+        assertEquals("User already exists with given email", errorResponse.getMessage());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_OtherConstraintShouldNotLeakDetails() {
+        // Arrange
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("value too long for column");
+
+        // Act
+        ResponseEntity<ErrorResponse> responseEntity =
+                globalExceptionHandler.handleDataIntegrityViolation(exception, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, responseEntity.getStatusCode());
+        ErrorResponse errorResponse = responseEntity.getBody();
+        assertNotNull(errorResponse);
+        assertEquals("Data Integrity Violation", errorResponse.getError());
+        assertEquals("The request conflicts with existing data", errorResponse.getMessage());
+    }
+
+    @Test
+    void userNotFoundException_ShouldNotCaptureStackTrace() {
+        // Act
+        UserNotFoundException exception = new UserNotFoundException(1);
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("User not found with id: 1", exception.getMessage());
+    }
+
+    @Test
+    void errorTemplate_ShouldDescribeServletRequestPath() {
+        // Arrange
+        WebRequest servletRequest = new ServletWebRequest(new MockHttpServletRequest("DELETE", "/user/deleteUser"));
+
+        // Act
+        ResponseEntity<ErrorResponse> responseEntity =
+                ErrorTemplate.USER_NOT_FOUND.toResponse("User not found with id: 1", servletRequest);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+        ErrorResponse errorResponse = responseEntity.getBody();
+        assertNotNull(errorResponse);
+        assertEquals("uri=/user/deleteUser", errorResponse.getPath());
+        assertEquals("User Not Found", errorResponse.getError());
+        assertNotNull(errorResponse.getTimestamp());
+    }
+
+    @Test
+    void handleRateLimitExceeded_ShouldReturnTooManyRequestsWithRetryAfter() {
+        // Act
+        ResponseEntity<ErrorResponse> responseEntity =
+                globalExceptionHandler.handleRateLimitExceededException(new RateLimitExceededException(3), webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, responseEntity.getStatusCode());
+        assertEquals("3", responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(responseEntity.getBody());
+        assertEquals("Too Many Requests", responseEntity.getBody().getError());
+    }
+
+    @Test
+    void handleServiceOverloaded_ShouldReturnServiceUnavailable() {
+        // Act
+        ResponseEntity<ErrorResponse> responseEntity = globalExceptionHandler.handleServiceOverloadedException(
+                new ServiceOverloadedException("getAllUsers"), webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, responseEntity.getStatusCode());
+        assertEquals("1", responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(responseEntity.getBody());
+        assertEquals("Too many concurrent getAllUsers requests; retry shortly", responseEntity.getBody().getMessage());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.travel.portal.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testRejectsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(concurrency(2), clock::get);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire(), "A third request should be over the limit");
+        assertEquals(2, limiter.inFlight(), "A rejected request must not hold a slot");
+    }
+
+    @Test
+    void testGrowsWhileLatencyStaysLow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(concurrency(2), clock::get);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        limiter.release(1_000_000);
+
+        assertEquals(3, limiter.limit());
+    }
+
+    @Test
+    void testBacksOffWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(concurrency(20), clock::get);
+        limiter.tryAcquire();
+        limiter.release(1_000_000);
+        int limit = limiter.limit();
+
+        clock.addAndGet(2_000_000);
+        limiter.tryAcquire();
+        limiter.release(10_000_000);
+
+        assertEquals((int) (limit * 0.9), limiter.limit(), "Queueing latency should cut the limit");
+    }
+
+    @Test
+    void testNeverDropsBelowMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(concurrency(2), clock::get);
+        limiter.tryAcquire();
+        limiter.release(1_000_000);
+
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(1_000_000_000);
+            limiter.tryAcquire();
+            limiter.release(1_000_000_000);
+        }
+
+        assertEquals(2, limiter.limit());
+    }
+
+    private static LoadSheddingProperties.Concurrency concurrency(int initialLimit) {
+        LoadSheddingProperties.Concurrency concurrency = new LoadSheddingProperties.Concurrency();
+        concurrency.setInitialLimit(initialLimit);
+        concurrency.setMinLimit(2);
+        return concurrency;
+    }
+}
@@ -0,0 +1,84 @@
+package com.travel.portal.limit;
+
+import com.travel.portal.exception.exceptionDetails.RateLimitExceededException;
+import com.travel.portal.exception.exceptionDetails.ServiceOverloadedException;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadSheddingInterceptorTest {
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void testRateLimitsPerRemoteAddress() {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.getRate().setEnabled(true);
+        properties.getRate().setRequestsPerSecond(1);
+        properties.getRate().setBurst(1);
+        LoadSheddingInterceptor interceptor = new LoadSheddingInterceptor(properties);
+
+        interceptor.preHandle(request("10.0.0.1"), response, handler());
+
+        MockHttpServletRequest sameClient = request("10.0.0.1");
+        sameClient.addHeader("X-API-Key", "another-key");
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(sameClient, response, handler()),
+                "An unauthenticated header should not buy a fresh budget");
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> interceptor.preHandle(request("10.0.0.2"), response, handler()));
+    }
+
+    @Test
+    void testShedsRequestsOverEndpointLimitUntilOneCompletes() throws Exception {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.getConcurrency().setEnabled(true);
+        properties.getConcurrency().setInitialLimit(1);
+        properties.getConcurrency().setMinLimit(1);
+        properties.getConcurrency().setMaxLimit(1);
+        LoadSheddingInterceptor interceptor = new LoadSheddingInterceptor(properties);
+        HandlerMethod handler = handler();
+        MockHttpServletRequest first = request("10.0.0.1");
+        interceptor.preHandle(first, response, handler);
+
+        assertThrows(ServiceOverloadedException.class, () -> interceptor.preHandle(request("10.0.0.2"), response, handler));
+
+        interceptor.afterCompletion(first, response, handler, null);
+        assertDoesNotThrow(() -> interceptor.preHandle(request("10.0.0.2"), response, handler));
+    }
+
+    @Test
+    void testAsyncDispatchIsNotCountedAgain() throws Exception {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.getConcurrency().setEnabled(true);
+        properties.getConcurrency().setInitialLimit(1);
+        properties.getConcurrency().setMaxLimit(1);
+        LoadSheddingInterceptor interceptor = new LoadSheddingInterceptor(properties);
+        MockHttpServletRequest request = request("10.0.0.1");
+        interceptor.preHandle(request, response, handler());
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        assertDoesNotThrow(() -> interceptor.preHandle(request, response, handler()),
+                "The streaming dispatch already holds its slot");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/getAllUsers");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private static HandlerMethod handler() {
+        try {
+            return new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
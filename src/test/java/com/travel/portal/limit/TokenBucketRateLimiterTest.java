@@ -0,0 +1,43 @@
+package com.travel.portal.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketRateLimiterTest {
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void testAdmitsBurstThenRejects() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10, 5, 16, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("client-a"), "The burst should be admitted");
+        }
+
+        assertEquals(100_000_000L, rateLimiter.tryAcquire("client-a"), "The next token is one interval away");
+    }
+
+    @Test
+    void testRefillsAtConfiguredRate() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10, 1, 16, clock::get);
+        assertEquals(0, rateLimiter.tryAcquire("client-a"));
+        assertTrue(rateLimiter.tryAcquire("client-a") > 0);
+
+        clock.addAndGet(100_000_000L);
+
+        assertEquals(0, rateLimiter.tryAcquire("client-a"), "A token should be back after 1/rate seconds");
+    }
+
+    @Test
+    void testClientsHaveSeparateBuckets() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10, 1, 4096, clock::get);
+        assertEquals(0, rateLimiter.tryAcquire("client-a"));
+        assertTrue(rateLimiter.tryAcquire("client-a") > 0);
+
+        assertEquals(0, rateLimiter.tryAcquire("client-b"), "Another client should not be limited by client-a");
+    }
+}
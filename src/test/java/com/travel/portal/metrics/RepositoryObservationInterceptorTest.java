@@ -0,0 +1,61 @@
+package com.travel.portal.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RepositoryObservationInterceptorTest {
+    @Mock
+    MethodInvocation invocation;
+
+    MeterRegistry meterRegistry;
+    RepositoryObservationInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        interceptor = new RepositoryObservationInterceptor(observationRegistry, "UserRepository");
+        when(invocation.getMethod()).thenReturn(Optional.class.getMethod("empty"));
+    }
+
+    @Test
+    void testRecordsTimerPerMethod() throws Throwable {
+        when(invocation.proceed()).thenReturn(Optional.empty());
+        interceptor.invoke(invocation);
+        interceptor.invoke(invocation);
+        Timer timer = meterRegistry.find(RepositoryObservationInterceptor.OBSERVATION_NAME)
+                .tag("repository", "UserRepository")
+                .tag("method", "empty")
+                .timer();
+        assertNotNull(timer, "A timer should be registered for the repository method");
+        assertEquals(2, timer.count(), "Every call should be recorded");
+    }
+
+    @Test
+    void testRecordsErrorsAndRethrows() throws Throwable {
+        when(invocation.proceed()).thenThrow(new IllegalStateException("connection refused"));
+        assertThrows(IllegalStateException.class, () -> interceptor.invoke(invocation));
+        Timer timer = meterRegistry.find(RepositoryObservationInterceptor.OBSERVATION_NAME)
+                .tag("error", "IllegalStateException")
+                .timer();
+        assertNotNull(timer, "Failed calls should be tagged with the error");
+    }
+}
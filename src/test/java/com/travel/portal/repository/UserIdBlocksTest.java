@@ -0,0 +1,74 @@
+package com.travel.portal.repository;
+
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.service.UserCursorCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserIdBlocksTest {
+
+    @Test
+    void testBlocksEndAtTheSequenceValue() {
+        assertEquals(51, UserIdBlocks.firstUserId(100));
+        assertEquals(2, UserIdBlocks.firstUserId(51));
+    }
+
+    @Test
+    void testFreshSequenceNeverYieldsIdsBelowOne() {
+        assertEquals(1, UserIdBlocks.firstUserId(1), "The first value of a fresh sequence stands for ID 1 alone");
+    }
+
+    @Test
+    void testBlocksFor() {
+        assertEquals(0, UserIdBlocks.blocksFor(0));
+        assertEquals(1, UserIdBlocks.blocksFor(UserEntity.ID_BLOCK_SIZE));
+        assertEquals(2, UserIdBlocks.blocksFor(UserEntity.ID_BLOCK_SIZE + 1));
+    }
+
+    @Test
+    void testKeepsRestOfBlockForLaterCalls() {
+        UserIdBlocks idBlocks = new UserIdBlocks();
+        List<Integer> first = new ArrayList<>();
+        idBlocks.add(first, 2, 100);
+        assertEquals(List.of(51, 52), first);
+
+        List<Integer> second = new ArrayList<>();
+        idBlocks.take(second, 3);
+        assertEquals(List.of(53, 54, 55), second, "Later calls should continue the kept block");
+    }
+
+    @Test
+    void testShortFirstBlockLeavesCallerShort() {
+        UserIdBlocks idBlocks = new UserIdBlocks();
+        List<Integer> userIds = new ArrayList<>();
+        idBlocks.add(userIds, 3, 1);
+        assertEquals(List.of(1), userIds, "A caller must draw again after a short block");
+    }
+
+    @Test
+    void testImportIntoEmptyTableYieldsIdsTheCursorReaches() {
+        // Draws IDs for 120 users from a fresh sequence (1, 51, 101, ...) the way an import does.
+        long sequenceValue = 1 - UserEntity.ID_BLOCK_SIZE;
+        int wanted = 120;
+        Set<Long> userIds = new HashSet<>();
+        while (userIds.size() < wanted) {
+            for (int block = UserIdBlocks.blocksFor(wanted - userIds.size()); block > 0; block--) {
+                sequenceValue += UserEntity.ID_BLOCK_SIZE;
+                for (long userId = UserIdBlocks.firstUserId(sequenceValue); userId <= sequenceValue && userIds.size() < wanted; userId++) {
+                    assertTrue(userIds.add(userId), "IDs must not repeat");
+                }
+            }
+        }
+
+        int firstPageAfter = UserCursorCodec.decode(null);
+        assertTrue(userIds.stream().allMatch(userId -> userId >= 1 && userId > firstPageAfter),
+                "Every ID should be positive and so reachable from the first page");
+    }
+}
@@ -0,0 +1,18 @@
+package com.travel.portal.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserSearchRepositoryImplTest {
+    @Test
+    void testEscapeLikeLowerCasesAndTrims() {
+        assertEquals("john", UserSearchRepositoryImpl.escapeLike("  John "), "Input should be trimmed and lower-cased");
+    }
+
+    @Test
+    void testEscapeLikeEscapesWildcards() {
+        assertEquals("50\\%\\_off\\\\", UserSearchRepositoryImpl.escapeLike("50%_off\\"),
+                "LIKE wildcards and the escape character should match literally");
+    }
+}
@@ -0,0 +1,80 @@
+package com.travel.portal.service;
+
+import com.travel.portal.model.UserBandCount;
+import com.travel.portal.model.UserBandSummary;
+import com.travel.portal.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserBandAggregatesTest {
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    UserBandAggregates userBandAggregates;
+
+    @BeforeEach
+    void setUp() {
+        userBandAggregates = new UserBandAggregates(userRepository, transactionManager);
+    }
+
+    @Test
+    void testWritesAdjustCountsWithoutQuerying() {
+        userBandAggregates.added("L1");
+        userBandAggregates.added("L1");
+        userBandAggregates.added(null);
+        userBandAggregates.moved("L1", "L2");
+        userBandAggregates.moved("L2", "L2");
+        userBandAggregates.removed(null);
+
+        UserBandSummary summary = userBandAggregates.summary();
+        assertEquals(Map.of("L1", 1L, "L2", 1L), summary.getBands(), "Emptied bands should be left out");
+        assertEquals(2, summary.getTotalUsers());
+        assertNull(summary.getReconciledAt(), "Counts have not been checked against the database yet");
+    }
+
+    @Test
+    void testReconcileCorrectsDrift() {
+        userBandAggregates.added("L1");
+        userBandAggregates.added("L3");
+        when(userRepository.countUsersByBand()).thenReturn(List.of(
+                new UserBandCount("L1", 5), new UserBandCount(null, 2)));
+
+        userBandAggregates.reconcile();
+
+        UserBandSummary summary = userBandAggregates.summary();
+        assertEquals(Map.of("L1", 5L, "", 2L), summary.getBands(), "Counts should match the database");
+        assertEquals(7, summary.getTotalUsers());
+        assertNotNull(summary.getReconciledAt());
+    }
+
+    @Test
+    void testReconcileKeepsWritesCountedDuringTheScan() {
+        when(userRepository.countUsersByBand()).thenAnswer(invocation -> {
+            // Committed after the count's snapshot was taken, so the result does not include it
+            userBandAggregates.added("L1");
+            userBandAggregates.moved("L2", "L1");
+            return List.of(new UserBandCount("L1", 3), new UserBandCount("L2", 1));
+        });
+
+        userBandAggregates.reconcile();
+
+        assertEquals(Map.of("L1", 5L), userBandAggregates.summary().getBands(),
+                "Writes counted while the query ran should survive the correction");
+    }
+}
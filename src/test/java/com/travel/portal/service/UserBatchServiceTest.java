@@ -0,0 +1,112 @@
+package com.travel.portal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.portal.constant.ApiConstants;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.model.UserBatchItemResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserBatchServiceTest {
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    ValidatorFactory validatorFactory;
+    UserBatchService userBatchService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        userBatchService = new UserBatchService(entityManager, new ObjectMapper(), validatorFactory.getValidator(), transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void testAddUsersFromNdjsonReportsEachItemInOrder() throws IOException {
+        AtomicInteger ids = new AtomicInteger();
+        doAnswer(invocation -> {
+            invocation.<UserEntity>getArgument(0).setUserId(ids.incrementAndGet());
+            return null;
+        }).when(entityManager).persist(any(UserEntity.class));
+        String body = """
+                {"userName": "John Doe", "userEmail": "abc@def.com", "userBand": "A"}
+                {"userName": "", "userEmail": "not-an-email", "userBand": "B"}
+                {"userName": "Test User", "userEmail": "test@user.com", "userBand": "B"}
+                """;
+
+        List<UserBatchItemResult> results = userBatchService.addUsers(stream(body));
+
+        assertEquals(3, results.size(), "Every item should get a result");
+        assertEquals(UserBatchItemResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(UserBatchItemResult.Status.INVALID, results.get(1).getStatus());
+        assertEquals(List.of("Invalid email format", "Username is required"), results.get(1).getErrors());
+        assertEquals(UserBatchItemResult.Status.CREATED, results.get(2).getStatus());
+        assertEquals(2, results.get(2).getUser().getUserId(), "Created items should carry the assigned ID");
+        verify(entityManager, times(1)).flush();
+    }
+
+    @Test
+    void testAddUsersRetriesRejectedChunkItemByItem() throws IOException {
+        doThrow(new PersistenceException("duplicate key")).doNothing().doThrow(new PersistenceException("duplicate key"))
+                .when(entityManager).flush();
+        String body = """
+                [
+                  {"userName": "John Doe", "userEmail": "abc@def.com", "userBand": "A"},
+                  {"userName": "Test User", "userEmail": "abc@def.com", "userBand": "B"}
+                ]
+                """;
+
+        List<UserBatchItemResult> results = userBatchService.addUsers(stream(body));
+
+        assertEquals(UserBatchItemResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(UserBatchItemResult.Status.FAILED, results.get(1).getStatus());
+        assertEquals(List.of("duplicate key"), results.get(1).getErrors());
+    }
+
+    @Test
+    void testAddUsersStopsReadingAfterMaxItems() throws IOException {
+        String invalidUser = "{\"userName\": \"\", \"userEmail\": \"abc@def.com\", \"userBand\": \"A\"}\n";
+        String body = invalidUser.repeat(ApiConstants.USER_BATCH_MAX_ITEMS + 5);
+
+        List<UserBatchItemResult> results = userBatchService.addUsers(stream(body));
+
+        assertEquals(ApiConstants.USER_BATCH_MAX_ITEMS + 1, results.size(), "Items past the limit should not be read");
+        UserBatchItemResult cutOff = results.getLast();
+        assertEquals(ApiConstants.USER_BATCH_MAX_ITEMS, cutOff.getIndex());
+        assertEquals(UserBatchItemResult.Status.INVALID, cutOff.getStatus());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+package com.travel.portal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.travel.portal.entity.UserChangeEntity;
+import com.travel.portal.exception.exceptionDetails.ChangesPrunedException;
+import com.travel.portal.model.UserChange;
+import com.travel.portal.model.UserCollectionVersion;
+import com.travel.portal.model.UserListSnapshot;
+import com.travel.portal.repository.UserChangeRepository;
+import com.travel.portal.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeFeedServiceTest {
+    @Mock
+    UserChangeRepository userChangeRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    UserChangeFeedService userChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        userChangeFeedService = new UserChangeFeedService(userChangeRepository, userRepository, entityManager,
+                new ObjectMapper().registerModule(new JavaTimeModule()), transactionManager, Duration.ofDays(7));
+    }
+
+    @Test
+    void testWriteNdjsonEmitsUpsertsAndTombstones() {
+        Instant changedAt = Instant.parse("2025-01-31T09:15:00Z");
+        when(userChangeRepository.streamByChangeSeqGreaterThanOrderByChangeSeqAsc(10)).thenReturn(Stream.of(
+                new UserChangeEntity(111, 11L, UserChange.Operation.UPDATE, 1, "John Doe", "abc@def.com", "B", 2L, changedAt),
+                new UserChangeEntity(112, 12L, UserChange.Operation.DELETE, 1, null, null, null, null, changedAt)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        userChangeFeedService.writeNdjson(10, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length, "Each change should be written on its own line");
+        assertTrue(lines[0].contains("\"userBand\":\"B\""), "An update should carry the after-image");
+        assertTrue(lines[1].contains("\"operation\":\"DELETE\""), "A delete should be reported");
+        assertFalse(lines[1].contains("\"userBand\""), "A tombstone should not carry an after-image");
+    }
+
+    @Test
+    void testCheckRetainedRejectsPositionBeforeOldestChange() {
+        when(userChangeRepository.findOldestChangeSeq()).thenReturn(Optional.of(100L));
+        assertThrows(ChangesPrunedException.class, () -> userChangeFeedService.checkRetained(50));
+        assertDoesNotThrow(() -> userChangeFeedService.checkRetained(99));
+    }
+
+    @Test
+    void testFindAllUsersWithChangeSeqReadsPositionBeforeUsers() {
+        UserCollectionVersion collectionVersion = new UserCollectionVersion(0, 0, 0, 0);
+        when(userRepository.findCollectionVersion()).thenReturn(collectionVersion);
+        when(userChangeRepository.findNewestChangeSeq()).thenReturn(Optional.of(42L));
+        when(userRepository.findAllByOrderByUserIdAsc()).thenReturn(List.of());
+
+        UserListSnapshot snapshot = userChangeFeedService.findAllUsersWithChangeSeq();
+
+        assertEquals(42L, snapshot.changeSeq());
+        assertEquals(collectionVersion, snapshot.collectionVersion());
+        InOrder inOrder = inOrder(userChangeRepository, userRepository);
+        inOrder.verify(userChangeRepository).findNewestChangeSeq();
+        inOrder.verify(userRepository).findAllByOrderByUserIdAsc();
+    }
+
+    @Test
+    void testSequenceSkipsWhileAnotherInstanceSequences() {
+        when(userChangeRepository.tryLockSequencing()).thenReturn(false);
+
+        userChangeFeedService.sequence();
+
+        verify(userChangeRepository, never()).assignChangeSeqs();
+    }
+
+    @Test
+    void testSequenceAssignsChangeSeqsUnderTheLock() {
+        when(userChangeRepository.tryLockSequencing()).thenReturn(true);
+
+        userChangeFeedService.sequence();
+
+        verify(userChangeRepository).assignChangeSeqs();
+    }
+
+    @Test
+    void testCheckRetainedAcceptsFullReplay() {
+        assertDoesNotThrow(() -> userChangeFeedService.checkRetained(0));
+    }
+}
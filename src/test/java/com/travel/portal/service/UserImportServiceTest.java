@@ -0,0 +1,55 @@
+package com.travel.portal.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.travel.portal.model.UserModel;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserImportServiceTest {
+
+    @Test
+    void testCsvReaderAcceptsExportedColumns() throws IOException {
+        String csv = "userId,userName,userEmail,userBand,version\n"
+                + "7,\"Doe, John\",abc@def.com,L2,3\n"
+                + "8,Jane Roe,,L1,0\n";
+        List<UserModel> users;
+        try (MappingIterator<UserModel> iterator = UserImportService.CSV_USERS.readValues(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            users = iterator.readAll();
+        }
+
+        assertEquals(2, users.size());
+        assertEquals("Doe, John", users.getFirst().getUserName(), "Quoted fields should keep their commas");
+        assertEquals("abc@def.com", users.getFirst().getUserEmail());
+        assertEquals("L2", users.getFirst().getUserBand());
+        assertNull(users.get(1).getUserEmail(), "Empty values should be read as missing so validation rejects them");
+    }
+
+    @Test
+    void testCsvReaderIgnoresUnknownColumns() throws IOException {
+        String csv = "userName,department,userEmail,userBand\nJohn Doe,Finance,abc@def.com,L2\n";
+        try (MappingIterator<UserModel> iterator = UserImportService.CSV_USERS.readValues(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            UserModel userModel = iterator.next();
+            assertEquals("John Doe", userModel.getUserName());
+            assertEquals("L2", userModel.getUserBand());
+        }
+    }
+
+    @Test
+    void testStagingRowQuotesEveryField() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        UserImportService.writeStagingRow(writer, 41, new UserModel(0, "John \"JD\" Doe,\nJr", "abc@def.com", "L2", null));
+
+        assertEquals("41,\"John \"\"JD\"\" Doe,\nJr\",\"abc@def.com\",\"L2\"\n", writer.toString());
+    }
+}
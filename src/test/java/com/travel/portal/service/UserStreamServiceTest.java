@@ -0,0 +1,78 @@
+package com.travel.portal.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.portal.entity.UserEntity;
+import com.travel.portal.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserStreamServiceTest {
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    UserStreamService userStreamService;
+
+    @BeforeEach
+    void setUp() {
+        userStreamService = new UserStreamService(userRepository, entityManager, objectMapper, transactionManager);
+    }
+
+    @Test
+    void testWriteUsersByIdsKeepsRequestOrderAndReportsMissingIds() throws IOException {
+        when(userRepository.findAllById(List.of(2, 9, 1))).thenReturn(List.of(
+                new UserEntity(1, "John Doe", "abc@def.com", "A"),
+                new UserEntity(2, "Test User", "test@user.com", "B")));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        userStreamService.writeUsersByIds(List.of(2, 9, 1), outputStream);
+
+        JsonNode result = objectMapper.readTree(outputStream.toByteArray());
+        assertEquals(2, result.get("users").get(0).get("userId").asInt(), "Users should follow the requested order");
+        assertEquals(1, result.get("users").get(1).get("userId").asInt(), "Users should follow the requested order");
+        assertEquals(9, result.get("missingIds").get(0).asInt(), "IDs without a user should be reported");
+    }
+
+    @Test
+    void testWriteUsersByIdsLoadsInChunks() throws IOException {
+        List<Integer> userIds = IntStream.rangeClosed(1, 250).boxed().toList();
+        when(userRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<UserEntity> users = new ArrayList<>();
+            for (Integer userId : invocation.<Iterable<Integer>>getArgument(0)) {
+                users.add(new UserEntity(userId, "User " + userId, "user" + userId + "@example.com", "L1"));
+            }
+            return users;
+        });
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        userStreamService.writeUsersByIds(userIds, outputStream);
+
+        verify(userRepository, times(3)).findAllById(anyIterable());
+        assertEquals(250, objectMapper.readTree(outputStream.toByteArray()).get("users").size(), "Every user should be written");
+    }
+}